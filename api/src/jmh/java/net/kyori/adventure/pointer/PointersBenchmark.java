@@ -0,0 +1,110 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.pointer;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.permission.PermissionChecker;
+import net.kyori.adventure.util.TriState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PointersBenchmark {
+  private Pointers pointers;
+  // the map-based lookup previously used by PointersImpl
+  private Map<Pointer<?>, Supplier<?>> map;
+
+  @Setup(Level.Trial)
+  public void prepare() {
+    final UUID uuid = UUID.randomUUID();
+    this.pointers = Pointers.builder()
+      .withStatic(Identity.UUID, uuid)
+      .withStatic(Identity.NAME, "kashike")
+      .withDynamic(Identity.LOCALE, () -> Locale.US)
+      .withStatic(PermissionChecker.POINTER, PermissionChecker.always(TriState.TRUE))
+      .build();
+    this.map = new HashMap<>();
+    this.map.put(Identity.UUID, () -> uuid);
+    this.map.put(Identity.NAME, () -> "kashike");
+    this.map.put(Identity.LOCALE, () -> Locale.US);
+    this.map.put(PermissionChecker.POINTER, () -> PermissionChecker.always(TriState.TRUE));
+  }
+
+  @Benchmark
+  public void mapGet(final Blackhole bh) {
+    bh.consume(this.mapGet(Identity.UUID).orElse(null));
+    bh.consume(this.mapGet(Identity.NAME).orElse(null));
+    bh.consume(this.mapGet(Identity.LOCALE).orElse(null));
+  }
+
+  @Benchmark
+  public void get(final Blackhole bh) {
+    bh.consume(this.pointers.get(Identity.UUID).orElse(null));
+    bh.consume(this.pointers.get(Identity.NAME).orElse(null));
+    bh.consume(this.pointers.get(Identity.LOCALE).orElse(null));
+  }
+
+  @Benchmark
+  public void getOrNull(final Blackhole bh) {
+    bh.consume(this.pointers.getOrNull(Identity.UUID));
+    bh.consume(this.pointers.getOrNull(Identity.NAME));
+    bh.consume(this.pointers.getOrNull(Identity.LOCALE));
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> Optional<T> mapGet(final Pointer<T> pointer) {
+    final Supplier<?> supplier = this.map.get(pointer);
+    return supplier == null ? Optional.empty() : Optional.ofNullable((T) supplier.get());
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    final Options opt = new OptionsBuilder()
+      .include(PointersBenchmark.class.getSimpleName())
+      .addProfiler("gc")
+      .forks(1)
+      .build();
+
+    new Runner(opt).run();
+  }
+}
@@ -49,10 +49,13 @@ import static net.kyori.adventure.text.format.Style.style;
 @BenchmarkMode(Mode.SampleTime)
 @OutputTimeUnit(TimeUnit.MICROSECONDS)
 public class ComponentCompactionBenchmark {
+  private static final int LARGE_TREE_SIZE = 10_000;
 
   private Component alreadyCompactedInput;
   private Component simpleScenarioInput;
   private Component moreComplexInput;
+  private Component flatInput;
+  private Component deepInput;
 
   @Setup(Level.Trial)
   public void prepare() {
@@ -85,6 +88,24 @@ public class ComponentCompactionBenchmark {
           .append(text("on Adventure!"))
         ))
         .build();
+
+    // many siblings, with runs of equally styled text to merge
+    final TextComponent.Builder flat = text().content("Flat ").color(NamedTextColor.GRAY);
+    for (int i = 0; i < LARGE_TREE_SIZE; i++) {
+      flat.append(text("item " + i + " ", (i / 10) % 2 == 0 ? NamedTextColor.GRAY : NamedTextColor.GREEN));
+    }
+    this.flatInput = flat.build();
+
+    // a single chain of nested children, alternating styles
+    Component deep = text("bottom");
+    for (int i = 0; i < LARGE_TREE_SIZE; i++) {
+      deep = text()
+        .content("level " + i + " ")
+        .color(i % 2 == 0 ? NamedTextColor.RED : NamedTextColor.BLUE)
+        .append(deep)
+        .build();
+    }
+    this.deepInput = deep;
   }
 
   @Benchmark
@@ -102,6 +123,16 @@ public class ComponentCompactionBenchmark {
     return this.moreComplexInput.compact();
   }
 
+  @Benchmark
+  public Component flat() {
+    return this.flatInput.compact();
+  }
+
+  @Benchmark
+  public Component deep() {
+    return this.deepInput.compact();
+  }
+
   public static void main(final String[] args) throws RunnerException {
     final Options opt = new OptionsBuilder()
       .include(ComponentCompactionBenchmark.class.getSimpleName())
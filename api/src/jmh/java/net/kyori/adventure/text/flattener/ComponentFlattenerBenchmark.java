@@ -0,0 +1,206 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.flattener;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.KeybindComponent;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.util.InheritanceAwareMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import static net.kyori.adventure.text.Component.text;
+
+/**
+ * Compares the iterative flattener against the previous recursive implementation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ComponentFlattenerBenchmark {
+  private static final int WIDE_SIZE = 10_000;
+  // the recursive flattener refuses to go deeper than 512 levels
+  private static final int DEEP_SIZE = 500;
+
+  private final ComponentFlattener iterative = ComponentFlattener.basic();
+  private final RecursiveFlattener recursive = new RecursiveFlattener();
+
+  private Component wideInput;
+  private Component deepInput;
+
+  @Setup(Level.Trial)
+  public void prepare() {
+    final TextComponent.Builder wide = text().content("Wide ");
+    for (int i = 0; i < WIDE_SIZE; i++) {
+      switch (i % 3) {
+        case 0:
+          wide.append(text("item " + i, NamedTextColor.GRAY));
+          break;
+        case 1:
+          wide.append(Component.keybind("key.jump"));
+          break;
+        default:
+          wide.append(Component.translatable("item." + i));
+          break;
+      }
+    }
+    this.wideInput = wide.build();
+
+    Component deep = text("bottom");
+    for (int i = 0; i < DEEP_SIZE; i++) {
+      deep = text()
+        .content("level " + i + " ")
+        .color(i % 2 == 0 ? NamedTextColor.RED : NamedTextColor.BLUE)
+        .append(deep)
+        .build();
+    }
+    this.deepInput = deep;
+  }
+
+  @Benchmark
+  public String wideIterative() {
+    return this.flatten(this.iterative::flatten, this.wideInput);
+  }
+
+  @Benchmark
+  public String wideRecursive() {
+    return this.flatten(this.recursive::flatten, this.wideInput);
+  }
+
+  @Benchmark
+  public String deepIterative() {
+    return this.flatten(this.iterative::flatten, this.deepInput);
+  }
+
+  @Benchmark
+  public String deepRecursive() {
+    return this.flatten(this.recursive::flatten, this.deepInput);
+  }
+
+  private String flatten(final Flattener flattener, final Component input) {
+    final CollectingListener listener = new CollectingListener();
+    flattener.flatten(input, listener);
+    return listener.builder.toString();
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    final Options opt = new OptionsBuilder()
+      .include(ComponentFlattenerBenchmark.class.getSimpleName())
+      .forks(1)
+      .build();
+
+    new Runner(opt).run();
+  }
+
+  @FunctionalInterface
+  interface Flattener {
+    void flatten(final Component input, final FlattenerListener listener);
+  }
+
+  static final class CollectingListener implements FlattenerListener {
+    final StringBuilder builder = new StringBuilder();
+
+    @Override
+    public void component(final @NotNull String text) {
+      this.builder.append(text);
+    }
+  }
+
+  // The recursive flattener as it was before being made iterative, with the basic mappers
+  static final class RecursiveFlattener {
+    private static final int MAX_DEPTH = 512;
+
+    private final InheritanceAwareMap<Component, Handler> flatteners = InheritanceAwareMap.<Component, Handler>builder()
+      .strict(true)
+      .put(KeybindComponent.class, (self, component, listener, depth) -> listener.component(((KeybindComponent) component).keybind()))
+      .put(TextComponent.class, (self, component, listener, depth) -> listener.component(((TextComponent) component).content()))
+      .put(TranslatableComponent.class, (self, component, listener, depth) -> {
+        final @Nullable String fallback = ((TranslatableComponent) component).fallback();
+        listener.component(fallback != null ? fallback : ((TranslatableComponent) component).key());
+      })
+      .build();
+    private final @Nullable Function<Component, String> unknownHandler = null;
+
+    void flatten(final Component input, final FlattenerListener listener) {
+      this.flatten0(input, listener, 0);
+    }
+
+    private void flatten0(final Component input, final FlattenerListener listener, final int depth) {
+      if (input == Component.empty()) return;
+      if (depth > MAX_DEPTH) {
+        throw new IllegalStateException("Exceeded maximum depth of " + MAX_DEPTH + " while attempting to flatten components!");
+      }
+
+      final @Nullable Handler flattener = this.flattener(input);
+      final Style inputStyle = input.style();
+
+      listener.pushStyle(inputStyle);
+      try {
+        if (flattener != null) {
+          flattener.handle(this, input, listener, depth + 1);
+        }
+
+        if (!input.children().isEmpty() && listener.shouldContinue()) {
+          for (final Component child : input.children()) {
+            this.flatten0(child, listener, depth + 1);
+          }
+        }
+      } finally {
+        listener.popStyle(inputStyle);
+      }
+    }
+
+    private @Nullable Handler flattener(final Component test) {
+      final Handler flattener = this.flatteners.get(test.getClass());
+
+      if (flattener == null && this.unknownHandler != null) {
+        return (self, component, listener, depth) -> listener.component(this.unknownHandler.apply(component));
+      } else {
+        return flattener;
+      }
+    }
+
+    @FunctionalInterface
+    interface Handler {
+      void handle(final RecursiveFlattener self, final Component input, final FlattenerListener listener, final int depth);
+    }
+  }
+}
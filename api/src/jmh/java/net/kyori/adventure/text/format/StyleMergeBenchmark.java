@@ -0,0 +1,116 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.format;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import static net.kyori.adventure.key.Key.key;
+import static net.kyori.adventure.text.format.Style.style;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StyleMergeBenchmark {
+  private static final Set<Style.Merge> DECORATIONS = Style.Merge.merges(Style.Merge.DECORATIONS);
+
+  private Style parent;
+  private Style child;
+  private Style redundantChild;
+  private Style decorationsOnly;
+
+  @Setup(Level.Trial)
+  public void prepare() {
+    this.parent = style()
+      .color(NamedTextColor.AQUA)
+      .font(key("uniform"))
+      .decorate(TextDecoration.BOLD, TextDecoration.ITALIC)
+      .clickEvent(ClickEvent.runCommand("/help"))
+      .build();
+    this.child = style()
+      .color(NamedTextColor.RED)
+      .decoration(TextDecoration.ITALIC, false)
+      .decorate(TextDecoration.UNDERLINED)
+      .hoverEvent(HoverEvent.showText(Component.text("hover")))
+      .build();
+    this.redundantChild = style(NamedTextColor.AQUA, TextDecoration.BOLD);
+    this.decorationsOnly = style().decorate(TextDecoration.OBFUSCATED).decoration(TextDecoration.BOLD, false).build();
+  }
+
+  @Benchmark
+  public Style mergeChanging() {
+    return this.parent.merge(this.child);
+  }
+
+  @Benchmark
+  public Style mergeRedundant() {
+    return this.parent.merge(this.redundantChild);
+  }
+
+  @Benchmark
+  public Style mergeIfAbsent() {
+    return this.child.merge(this.parent, Style.Merge.Strategy.IF_ABSENT_ON_TARGET);
+  }
+
+  @Benchmark
+  public Style mergeDecorations() {
+    return this.parent.merge(this.decorationsOnly, Style.Merge.Strategy.ALWAYS, DECORATIONS);
+  }
+
+  @Benchmark
+  public Style unmergeChanging() {
+    return this.child.unmerge(this.parent);
+  }
+
+  @Benchmark
+  public Style unmergeRedundant() {
+    return this.redundantChild.unmerge(this.parent);
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    final Options opt = new OptionsBuilder()
+      .include(StyleMergeBenchmark.class.getSimpleName())
+      .addProfiler("gc")
+      .forks(1)
+      .build();
+
+    new Runner(opt).run();
+  }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.renderer;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.kyori.adventure.translation.TranslationRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TranslatableComponentRendererBenchmark {
+  private static final int LINES = 200;
+  private static final int WORDS = 10;
+
+  // one in every n lines contains a translatable component
+  @Param({"0", "50", "25"})
+  private int translatableEvery;
+
+  private ComponentRenderer<Locale> renderer;
+  private Component component;
+
+  @Setup(Level.Trial)
+  public void prepare() {
+    final TranslationRegistry registry = TranslationRegistry.create(Key.key("adventure", "benchmark"));
+    registry.register("benchmark.greeting", Locale.US, new MessageFormat("Hello {0}!"));
+    this.renderer = TranslatableComponentRenderer.usingTranslationSource(registry);
+
+    final TextComponent.Builder root = Component.text();
+    for (int line = 0; line < LINES; line++) {
+      final TextComponent.Builder builder = Component.text().color(NamedTextColor.GRAY);
+      for (int word = 0; word < WORDS; word++) {
+        builder.append(Component.text("word " + word, word % 2 == 0 ? NamedTextColor.WHITE : NamedTextColor.YELLOW));
+      }
+      if (this.translatableEvery != 0 && line % this.translatableEvery == 0) {
+        builder.append(Component.translatable("benchmark.greeting", Component.text("line " + line, Style.style(TextDecoration.BOLD))));
+      }
+      root.append(builder.hoverEvent(Component.text("line " + line)));
+    }
+    this.component = root.build();
+  }
+
+  @Benchmark
+  public Component render() {
+    return this.renderer.render(this.component, Locale.US);
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    final Options opt = new OptionsBuilder()
+      .include(TranslatableComponentRendererBenchmark.class.getSimpleName())
+      .addProfiler("gc")
+      .forks(1)
+      .build();
+
+    new Runner(opt).run();
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.translation;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.concurrent.TimeUnit;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.util.UTF8ResourceBundleControl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TranslationRegistryBenchmark {
+  private static final String BUNDLE = "benchmark";
+
+  @Param({"5000"})
+  private int keys;
+
+  @Param({"40"})
+  private int localeCount;
+
+  private List<Locale> locales;
+  private ClassLoader loader;
+
+  @Setup(Level.Trial)
+  public void prepare() {
+    final Locale[] available = Locale.getAvailableLocales();
+    this.locales = new ArrayList<>();
+    final Map<String, byte[]> resources = new HashMap<>();
+    for (int i = 0; this.locales.size() < this.localeCount && i < available.length; i++) {
+      final Locale locale = available[i];
+      if (locale.getCountry().isEmpty() || !locale.getVariant().isEmpty() || !locale.getScript().isEmpty()) continue;
+      this.locales.add(locale);
+      final StringBuilder properties = new StringBuilder();
+      for (int key = 0; key < this.keys; key++) {
+        properties.append("benchmark.key").append(key).append(" = ").append(locale).append(" message ").append(key).append(" for {0} and '{1}'\n");
+      }
+      resources.put(BUNDLE + "_" + locale + ".properties", properties.toString().getBytes(StandardCharsets.UTF_8));
+    }
+    this.loader = new ClassLoader(TranslationRegistryBenchmark.class.getClassLoader()) {
+      @Override
+      public InputStream getResourceAsStream(final String name) {
+        final byte[] resource = resources.get(name);
+        return resource == null ? super.getResourceAsStream(name) : new ByteArrayInputStream(resource);
+      }
+    };
+  }
+
+  @Benchmark
+  public TranslationRegistry registerBundlesEagerly() {
+    ResourceBundle.clearCache(this.loader);
+    final TranslationRegistry registry = TranslationRegistry.create(Key.key("adventure", "benchmark"));
+    for (final Locale locale : this.locales) {
+      registry.registerAll(locale, ResourceBundle.getBundle(BUNDLE, locale, this.loader, UTF8ResourceBundleControl.get()), true);
+    }
+    return registry;
+  }
+
+  @Benchmark
+  public TranslationRegistry registerBundlesLazily() {
+    ResourceBundle.clearCache(this.loader);
+    final TranslationRegistry registry = TranslationRegistry.create(Key.key("adventure", "benchmark"));
+    registry.registerAll(BUNDLE, this.loader, this.locales, true);
+    return registry;
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    final Options opt = new OptionsBuilder()
+      .include(TranslationRegistryBenchmark.class.getSimpleName())
+      .addProfiler("gc")
+      .forks(1)
+      .build();
+
+    new Runner(opt).run();
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.audience;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A forwarding audience that sends to its audiences using an {@link Executor}.
+ *
+ * <p>The audiences are split between lanes which are sent to concurrently, so a large broadcast does not block the
+ * calling thread. Each audience is always sent to by the same lane, and each lane sends in order, so an audience
+ * receives everything in the order it was sent. A failure to send to one audience does not prevent sending to any
+ * other audience.</p>
+ *
+ * <p>The methods of {@link Audience} return before sending has completed, and any failures are passed to the failure
+ * handler given when the audience was created. {@link #broadcast(Consumer)} can be used to find out when sending has
+ * completed, or why it failed:</p>
+ *
+ * <pre>
+ *   final AsyncForwardingAudience audience = AsyncForwardingAudience.asyncAudience(executor, players);
+ *   audience.broadcast(player -&#62; player.sendMessage(message))
+ *     .exceptionally(error -&#62; { ... });
+ * </pre>
+ *
+ * @since 4.18.0
+ */
+@ApiStatus.NonExtendable
+public interface AsyncForwardingAudience extends ForwardingAudience {
+  /**
+   * The default number of audiences in each batch.
+   *
+   * @since 4.18.0
+   */
+  int DEFAULT_BATCH_SIZE = 64;
+
+  /**
+   * Creates an audience that sends to {@code audiences} using {@code executor}.
+   *
+   * @param executor the executor to send with
+   * @param audiences the audiences
+   * @return an audience
+   * @since 4.18.0
+   */
+  static @NotNull AsyncForwardingAudience asyncAudience(final @NotNull Executor executor, final @NotNull Iterable<? extends Audience> audiences) {
+    return asyncAudience(executor, DEFAULT_BATCH_SIZE, audiences);
+  }
+
+  /**
+   * Creates an audience that sends to {@code audiences} using {@code executor}.
+   *
+   * @param executor the executor to send with
+   * @param batchSize the maximum number of audiences sent to by each task submitted to {@code executor}
+   * @param audiences the audiences
+   * @return an audience
+   * @throws IllegalArgumentException if {@code batchSize} is not positive
+   * @since 4.18.0
+   */
+  static @NotNull AsyncForwardingAudience asyncAudience(final @NotNull Executor executor, final int batchSize, final @NotNull Iterable<? extends Audience> audiences) {
+    return asyncAudience(executor, batchSize, AsyncForwardingAudienceImpl.REPORT_FAILURE, audiences);
+  }
+
+  /**
+   * Creates an audience that sends to {@code audiences} using {@code executor}.
+   *
+   * <p>{@code failureHandler} is given the failures of sends made through the methods of {@link Audience}, which have
+   * no other way to report them. The audiences created by the other methods pass failures to the
+   * {@link Thread#getUncaughtExceptionHandler() uncaught exception handler} of the thread that was sending.</p>
+   *
+   * @param executor the executor to send with
+   * @param batchSize the maximum number of audiences sent to by each task submitted to {@code executor}
+   * @param failureHandler the handler for failures of sends that did not return a future
+   * @param audiences the audiences
+   * @return an audience
+   * @throws IllegalArgumentException if {@code batchSize} is not positive
+   * @since 4.18.0
+   */
+  static @NotNull AsyncForwardingAudience asyncAudience(final @NotNull Executor executor, final int batchSize, final @NotNull Consumer<? super BroadcastException> failureHandler, final @NotNull Iterable<? extends Audience> audiences) {
+    if (batchSize < 1) throw new IllegalArgumentException("batchSize must be positive, was " + batchSize);
+    return new AsyncForwardingAudienceImpl(requireNonNull(executor, "executor"), batchSize, requireNonNull(failureHandler, "failureHandler"), requireNonNull(audiences, "audiences"));
+  }
+
+  /**
+   * Performs {@code action} on each audience.
+   *
+   * <p>The returned future completes once {@code action} has been performed on every audience. If {@code action}
+   * failed for any audience, it completes exceptionally with a {@link BroadcastException}, which is not passed to the
+   * failure handler.</p>
+   *
+   * @param action the action
+   * @return a future completing when the action has been performed on every audience
+   * @since 4.18.0
+   */
+  @NotNull CompletableFuture<Void> broadcast(final @NotNull Consumer<? super Audience> action);
+}
@@ -0,0 +1,379 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.audience;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import net.kyori.adventure.bossbar.BossBar;
+import net.kyori.adventure.chat.ChatType;
+import net.kyori.adventure.chat.SignedMessage;
+import net.kyori.adventure.identity.Identified;
+import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.inventory.Book;
+import net.kyori.adventure.resource.ResourcePackRequest;
+import net.kyori.adventure.sound.Sound;
+import net.kyori.adventure.sound.SoundStop;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.title.Title;
+import net.kyori.adventure.title.TitlePart;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+final class AsyncForwardingAudienceImpl implements AsyncForwardingAudience {
+  static final Consumer<BroadcastException> REPORT_FAILURE = error -> {
+    final Thread thread = Thread.currentThread();
+    thread.getUncaughtExceptionHandler().uncaughtException(thread, error);
+  };
+
+  private final Executor executor;
+  private final int batchSize;
+  private final Consumer<? super BroadcastException> failureHandler;
+  private final Iterable<? extends Audience> audiences;
+  // an audience is always sent to by the same lane, so it receives everything in the order it was sent
+  private final Lane[] lanes;
+
+  AsyncForwardingAudienceImpl(final Executor executor, final int batchSize, final Consumer<? super BroadcastException> failureHandler, final Iterable<? extends Audience> audiences) {
+    this.executor = executor;
+    this.batchSize = batchSize;
+    this.failureHandler = failureHandler;
+    this.audiences = audiences;
+    this.lanes = new Lane[Math.max(1, Runtime.getRuntime().availableProcessors())];
+    for (int i = 0; i < this.lanes.length; i++) {
+      this.lanes[i] = new Lane();
+    }
+  }
+
+  @Override
+  public @NotNull Iterable<? extends Audience> audiences() {
+    return this.audiences;
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Void> broadcast(final @NotNull Consumer<? super Audience> action) {
+    final CompletableFuture<Void> future = new CompletableFuture<>();
+    this.send(requireNonNull(action, "action"), future);
+    return future;
+  }
+
+  private void send(final Consumer<? super Audience> action) {
+    this.send(action, null);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private void send(final Consumer<? super Audience> action, final @Nullable CompletableFuture<Void> future) {
+    final List<Audience>[] members = new List[this.lanes.length];
+    int used = 0;
+    for (final Audience audience : this.audiences) {
+      final int lane = lane(audience, this.lanes.length);
+      if (members[lane] == null) {
+        members[lane] = new ArrayList<>();
+        used++;
+      }
+      members[lane].add(audience);
+    }
+    if (used == 0) {
+      if (future != null) future.complete(null);
+      return;
+    }
+    final Broadcast broadcast = new Broadcast(used, future, this.failureHandler);
+    for (int i = 0; i < members.length; i++) {
+      if (members[i] != null) {
+        this.lanes[i].submit(new Delivery(broadcast, action, members[i]));
+      }
+    }
+  }
+
+  private static int lane(final Audience audience, final int lanes) {
+    final int hash = System.identityHashCode(audience);
+    return ((hash ^ (hash >>> 16)) & Integer.MAX_VALUE) % lanes;
+  }
+
+  @Override
+  public void showTitle(final @NotNull Title title) {
+    this.send(audience -> audience.showTitle(title));
+  }
+
+  @Override
+  public void sendMessage(final @NotNull Component message) {
+    this.send(audience -> audience.sendMessage(message));
+  }
+
+  @Override
+  public void sendMessage(final @NotNull PreparedMessage message) {
+    this.send(audience -> audience.sendMessage(message));
+  }
+
+  @Override
+  public void sendMessage(final @NotNull Component message, final ChatType.@NotNull Bound boundChatType) {
+    this.send(audience -> audience.sendMessage(message, boundChatType));
+  }
+
+  @Override
+  public void sendMessage(final @NotNull SignedMessage signedMessage, final ChatType.@NotNull Bound boundChatType) {
+    this.send(audience -> audience.sendMessage(signedMessage, boundChatType));
+  }
+
+  @Override
+  public void deleteMessage(final SignedMessage.@NotNull Signature signature) {
+    this.send(audience -> audience.deleteMessage(signature));
+  }
+
+  @Override
+  @Deprecated
+  public void sendMessage(final @NotNull Identified source, final @NotNull Component message, final @NotNull MessageType type) {
+    this.send(audience -> audience.sendMessage(source, message, type));
+  }
+
+  @Override
+  @Deprecated
+  public void sendMessage(final @NotNull Identity source, final @NotNull Component message, final @NotNull MessageType type) {
+    this.send(audience -> audience.sendMessage(source, message, type));
+  }
+
+  @Override
+  public void sendActionBar(final @NotNull Component message) {
+    this.send(audience -> audience.sendActionBar(message));
+  }
+
+  @Override
+  public void sendPlayerListHeader(final @NotNull Component header) {
+    this.send(audience -> audience.sendPlayerListHeader(header));
+  }
+
+  @Override
+  public void sendPlayerListFooter(final @NotNull Component footer) {
+    this.send(audience -> audience.sendPlayerListFooter(footer));
+  }
+
+  @Override
+  public void sendPlayerListHeaderAndFooter(final @NotNull Component header, final @NotNull Component footer) {
+    this.send(audience -> audience.sendPlayerListHeaderAndFooter(header, footer));
+  }
+
+  @Override
+  public <T> void sendTitlePart(final @NotNull TitlePart<T> part, final @NotNull T value) {
+    this.send(audience -> audience.sendTitlePart(part, value));
+  }
+
+  @Override
+  public void clearTitle() {
+    this.send(audience -> audience.clearTitle());
+  }
+
+  @Override
+  public void resetTitle() {
+    this.send(audience -> audience.resetTitle());
+  }
+
+  @Override
+  public void showBossBar(final @NotNull BossBar bar) {
+    this.send(audience -> audience.showBossBar(bar));
+  }
+
+  @Override
+  public void hideBossBar(final @NotNull BossBar bar) {
+    this.send(audience -> audience.hideBossBar(bar));
+  }
+
+  @Override
+  public void playSound(final @NotNull Sound sound) {
+    this.send(audience -> audience.playSound(sound));
+  }
+
+  @Override
+  public void playSound(final @NotNull Sound sound, final double x, final double y, final double z) {
+    this.send(audience -> audience.playSound(sound, x, y, z));
+  }
+
+  @Override
+  public void playSound(final @NotNull Sound sound, final Sound.@NotNull Emitter emitter) {
+    this.send(audience -> audience.playSound(sound, emitter));
+  }
+
+  @Override
+  public void stopSound(final @NotNull SoundStop stop) {
+    this.send(audience -> audience.stopSound(stop));
+  }
+
+  @Override
+  public void openBook(final @NotNull Book book) {
+    this.send(audience -> audience.openBook(book));
+  }
+
+  @Override
+  public void sendResourcePacks(final @NotNull ResourcePackRequest request) {
+    this.send(audience -> audience.sendResourcePacks(request));
+  }
+
+  @Override
+  public void removeResourcePacks(final @NotNull Iterable<UUID> ids) {
+    this.send(audience -> audience.removeResourcePacks(ids));
+  }
+
+  @Override
+  public void removeResourcePacks(final @NotNull UUID id, final @NotNull UUID @NotNull ... others) {
+    this.send(audience -> audience.removeResourcePacks(id, others));
+  }
+
+  @Override
+  public void clearResourcePacks() {
+    this.send(audience -> audience.clearResourcePacks());
+  }
+
+  // Sends to the audiences of one lane in the order they were submitted, running at most one task at a time
+  final class Lane implements Runnable {
+    private final Queue<Delivery> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    void submit(final Delivery delivery) {
+      this.pending.add(delivery);
+      this.schedule();
+    }
+
+    private void schedule() {
+      while (!this.pending.isEmpty() && this.scheduled.compareAndSet(false, true)) {
+        try {
+          AsyncForwardingAudienceImpl.this.executor.execute(this);
+          return;
+        } catch (final RejectedExecutionException error) {
+          // nothing waiting in this lane can be sent
+          Delivery delivery;
+          while ((delivery = this.pending.poll()) != null) {
+            delivery.reject(error);
+          }
+          this.scheduled.set(false);
+        }
+      }
+    }
+
+    @Override
+    public void run() {
+      try {
+        int remaining = AsyncForwardingAudienceImpl.this.batchSize;
+        Delivery delivery;
+        while (remaining > 0 && (delivery = this.pending.peek()) != null) {
+          remaining -= delivery.deliver(remaining);
+          if (delivery.done()) {
+            this.pending.poll();
+            delivery.broadcast.laneCompleted();
+          }
+        }
+      } finally {
+        this.scheduled.set(false);
+        // the batch size may have been reached, or more may have been submitted since the queue was last checked
+        this.schedule();
+      }
+    }
+  }
+
+  // the audiences of one lane that a broadcast has yet to be sent to
+  static final class Delivery {
+    final Broadcast broadcast;
+    private final Consumer<? super Audience> action;
+    private final List<Audience> members;
+    private int next;
+
+    Delivery(final Broadcast broadcast, final Consumer<? super Audience> action, final List<Audience> members) {
+      this.broadcast = broadcast;
+      this.action = action;
+      this.members = members;
+    }
+
+    int deliver(final int limit) {
+      final int start = this.next;
+      final int end = Math.min(this.members.size(), start + limit);
+      for (; this.next < end; this.next++) {
+        final Audience audience = this.members.get(this.next);
+        try {
+          this.action.accept(audience);
+        } catch (final Throwable error) {
+          this.broadcast.failed(audience, error);
+        }
+      }
+      return end - start;
+    }
+
+    boolean done() {
+      return this.next == this.members.size();
+    }
+
+    void reject(final Throwable error) {
+      for (int i = this.next; i < this.members.size(); i++) {
+        this.broadcast.failed(this.members.get(i), error);
+      }
+      this.broadcast.laneCompleted();
+    }
+  }
+
+  // tracks the lanes of a single broadcast
+  static final class Broadcast {
+    private final AtomicInteger remaining;
+    private final @Nullable CompletableFuture<Void> future;
+    private final Consumer<? super BroadcastException> failureHandler;
+    private final Map<Audience, Throwable> failures = new IdentityHashMap<>();
+    private Throwable first;
+
+    Broadcast(final int lanes, final @Nullable CompletableFuture<Void> future, final Consumer<? super BroadcastException> failureHandler) {
+      this.remaining = new AtomicInteger(lanes);
+      this.future = future;
+      this.failureHandler = failureHandler;
+    }
+
+    synchronized void failed(final Audience audience, final Throwable error) {
+      if (this.first == null) this.first = error;
+      this.failures.put(audience, error);
+    }
+
+    void laneCompleted() {
+      if (this.remaining.decrementAndGet() != 0) return;
+      final BroadcastException error;
+      synchronized (this) {
+        error = this.first == null ? null : new BroadcastException(Collections.unmodifiableMap(this.failures), this.first);
+      }
+      if (this.future != null) {
+        if (error == null) {
+          this.future.complete(null);
+        } else {
+          this.future.completeExceptionally(error);
+        }
+      } else if (error != null) {
+        this.failureHandler.accept(error);
+      }
+    }
+  }
+}
@@ -217,6 +217,21 @@ public interface Audience extends Pointered {
     this.sendMessage(message, MessageType.SYSTEM);
   }
 
+  /**
+   * Sends a prepared system chat message to this {@link Audience}.
+   *
+   * <p>Audiences that forward to other audiences pass the same prepared message on, so that work done to send it can
+   * be {@link PreparedMessage#prepare(Class, Object, java.util.function.Function) reused} between audiences with the same
+   * context. By default, the {@link PreparedMessage#message() message} is sent as a {@link Component}.</p>
+   *
+   * @param message a prepared message
+   * @see #sendMessage(Component)
+   * @since 4.18.0
+   */
+  default void sendMessage(final @NotNull PreparedMessage message) {
+    this.sendMessage(message.message());
+  }
+
   /**
    * Sends a system chat message to this {@link Audience} ignoring the provided {@link MessageType}.
    *
@@ -0,0 +1,53 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.audience;
+
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+/**
+ * This exception is thrown when sending to one or more members of an {@link AsyncForwardingAudience} failed.
+ *
+ * @since 4.18.0
+ */
+public final class BroadcastException extends RuntimeException {
+  private static final long serialVersionUID = 4650471929134207376L;
+  private final transient Map<Audience, Throwable> failures;
+
+  BroadcastException(final @NotNull Map<Audience, Throwable> failures, final @NotNull Throwable first) {
+    super(String.format("Failed to send to %d audience(s)", failures.size()), first);
+    this.failures = failures;
+  }
+
+  /**
+   * Gets the failure for each audience that could not be sent to.
+   *
+   * @return the failures
+   * @since 4.18.0
+   */
+  public @NotNull @Unmodifiable Map<Audience, Throwable> failures() {
+    return this.failures;
+  }
+}
@@ -56,6 +56,11 @@ final class EmptyAudience implements Audience {
     return defaultValue;
   }
 
+  @Override
+  public <T> @Nullable T getOrNull(final @NotNull Pointer<T> pointer) {
+    return null;
+  }
+
   @Override
   public <T> @UnknownNullability T getOrDefaultFrom(final @NotNull Pointer<T> pointer, final @NotNull Supplier<? extends T> defaultValue) {
     return defaultValue.get();
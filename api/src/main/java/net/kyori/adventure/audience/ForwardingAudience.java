@@ -104,6 +104,11 @@ public interface ForwardingAudience extends Audience {
     for (final Audience audience : this.audiences()) audience.sendMessage(message);
   }
 
+  @Override
+  default void sendMessage(final @NotNull PreparedMessage message) {
+    for (final Audience audience : this.audiences()) audience.sendMessage(message);
+  }
+
   @Override
   default void sendMessage(final @NotNull Component message, final ChatType.@NotNull Bound boundChatType) {
     for (final Audience audience : this.audiences()) audience.sendMessage(message, boundChatType);
@@ -259,6 +264,11 @@ public interface ForwardingAudience extends Audience {
       return this.audience().getOrDefault(pointer, defaultValue);
     }
 
+    @Override
+    default <T> @Nullable T getOrNull(final @NotNull Pointer<T> pointer) {
+      return this.audience().getOrNull(pointer);
+    }
+
     @Override
     default <T> @UnknownNullability T getOrDefaultFrom(final @NotNull Pointer<T> pointer, final @NotNull Supplier<? extends T> defaultValue) {
       return this.audience().getOrDefaultFrom(pointer, defaultValue);
@@ -287,6 +297,11 @@ public interface ForwardingAudience extends Audience {
       this.audience().sendMessage(message);
     }
 
+    @Override
+    default void sendMessage(final @NotNull PreparedMessage message) {
+      this.audience().sendMessage(message);
+    }
+
     @Override
     default void sendMessage(final @NotNull Component message, final ChatType.@NotNull Bound boundChatType) {
       this.audience().sendMessage(message, boundChatType);
@@ -0,0 +1,166 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.audience;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.Consumer;
+import net.kyori.adventure.pointer.Pointer;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A forwarding audience that indexes its audiences by the values of some of their {@link Pointer pointers}
+ * and permissions.
+ *
+ * <p>Audiences are added with {@link #add(Audience)} and removed with {@link #remove(Audience)}. When the value of an
+ * indexed pointer or permission changes for an audience, {@link #update(Audience)} must be called to update the
+ * indexes.</p>
+ *
+ * <pre>
+ *   final IndexedForwardingAudience players = IndexedForwardingAudience.indexedAudience(Arrays.asList(Identity.UUID, Identity.LOCALE), Collections.singleton("example.admin"));
+ *   players.add(player);
+ *
+ *   players.filterAudience(Identity.LOCALE, Locale.GERMANY).sendMessage(Component.text("Hallo!"));
+ *   players.permitted("example.admin").sendMessage(Component.text("Hello, admins!"));
+ * </pre>
+ *
+ * @since 4.18.0
+ */
+@ApiStatus.NonExtendable
+public interface IndexedForwardingAudience extends ForwardingAudience {
+  /**
+   * Creates an empty audience indexed by {@code pointers}.
+   *
+   * @param pointers the pointers to index
+   * @return an audience
+   * @since 4.18.0
+   */
+  static @NotNull IndexedForwardingAudience indexedAudience(final @NotNull Pointer<?> @NotNull ... pointers) {
+    return indexedAudience(Arrays.asList(pointers), Collections.emptySet());
+  }
+
+  /**
+   * Creates an empty audience indexed by {@code pointers} and {@code permissions}.
+   *
+   * @param pointers the pointers to index
+   * @param permissions the permissions to index
+   * @return an audience
+   * @since 4.18.0
+   */
+  static @NotNull IndexedForwardingAudience indexedAudience(final @NotNull Iterable<? extends Pointer<?>> pointers, final @NotNull Iterable<String> permissions) {
+    return new IndexedForwardingAudienceImpl(requireNonNull(pointers, "pointers"), requireNonNull(permissions, "permissions"));
+  }
+
+  /**
+   * Gets the indexed pointers.
+   *
+   * @return the indexed pointers
+   * @since 4.18.0
+   */
+  @NotNull @Unmodifiable Set<Pointer<?>> indexedPointers();
+
+  /**
+   * Gets the indexed permissions.
+   *
+   * @return the indexed permissions
+   * @since 4.18.0
+   */
+  @NotNull @Unmodifiable Set<String> indexedPermissions();
+
+  /**
+   * Adds an audience.
+   *
+   * @param audience the audience
+   * @return {@code true} if the audience was added, {@code false} if it was already present
+   * @since 4.18.0
+   */
+  boolean add(final @NotNull Audience audience);
+
+  /**
+   * Removes an audience.
+   *
+   * @param audience the audience
+   * @return {@code true} if the audience was removed, {@code false} if it was not present
+   * @since 4.18.0
+   */
+  boolean remove(final @NotNull Audience audience);
+
+  /**
+   * Updates the indexes for an audience, after the value of an indexed pointer or permission has changed.
+   *
+   * <p>The values are read while no other audience is being added or updated, so when updates race, the indexes
+   * always end up with the values read by the last of them.</p>
+   *
+   * @param audience the audience
+   * @return {@code true} if the audience is present, {@code false} otherwise
+   * @since 4.18.0
+   */
+  boolean update(final @NotNull Audience audience);
+
+  /**
+   * Gets an audience of the audiences whose value for {@code pointer} is equal to {@code value}.
+   *
+   * <p>Queries for an {@link #indexedPointers() indexed pointer} do not need to check every audience.</p>
+   *
+   * @param pointer the pointer
+   * @param value the value, or {@code null} for audiences without a value
+   * @param <T> the value type
+   * @return an audience
+   * @since 4.18.0
+   */
+  <T> @NotNull Audience filterAudience(final @NotNull Pointer<T> pointer, final @Nullable T value);
+
+  /**
+   * Executes an action against the audiences whose value for {@code pointer} is equal to {@code value}.
+   *
+   * <p>Queries for an {@link #indexedPointers() indexed pointer} do not need to check every audience.</p>
+   *
+   * @param pointer the pointer
+   * @param value the value, or {@code null} for audiences without a value
+   * @param action the action
+   * @param <T> the value type
+   * @since 4.18.0
+   */
+  default <T> void forEachAudience(final @NotNull Pointer<T> pointer, final @Nullable T value, final @NotNull Consumer<? super Audience> action) {
+    this.filterAudience(pointer, value).forEachAudience(action);
+  }
+
+  /**
+   * Gets an audience of the audiences which have been granted {@code permission}.
+   *
+   * <p>Queries for an {@link #indexedPermissions() indexed permission} do not need to check every audience.</p>
+   *
+   * @param permission the permission
+   * @return an audience
+   * @see net.kyori.adventure.permission.PermissionChecker#test(String)
+   * @since 4.18.0
+   */
+  @NotNull Audience permitted(final @NotNull String permission);
+}
@@ -0,0 +1,228 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.audience;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import net.kyori.adventure.internal.Internals;
+import net.kyori.adventure.permission.PermissionChecker;
+import net.kyori.adventure.pointer.Pointer;
+import net.kyori.examination.Examinable;
+import net.kyori.examination.ExaminableProperty;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+final class IndexedForwardingAudienceImpl implements Examinable, IndexedForwardingAudience {
+  private static final Object NO_VALUE = new Object();
+
+  // pointers occupy the first slots, permissions the rest
+  private final Map<Pointer<?>, Integer> pointers = new LinkedHashMap<>();
+  private final Map<String, Integer> permissions = new LinkedHashMap<>();
+  // the indexed values of each audience
+  private final Map<Audience, Entry> audiences = new LinkedHashMap<>();
+  // the audiences with each value, by slot
+  private final List<Map<Object, Set<Audience>>> indexes = new ArrayList<>();
+
+  IndexedForwardingAudienceImpl(final Iterable<? extends Pointer<?>> pointers, final Iterable<String> permissions) {
+    for (final Pointer<?> pointer : pointers) {
+      if (this.pointers.putIfAbsent(requireNonNull(pointer, "pointer"), this.indexes.size()) == null) this.indexes.add(new HashMap<>());
+    }
+    for (final String permission : permissions) {
+      if (this.permissions.putIfAbsent(requireNonNull(permission, "permission"), this.indexes.size()) == null) this.indexes.add(new HashMap<>());
+    }
+  }
+
+  @Override
+  public @NotNull Set<Pointer<?>> indexedPointers() {
+    return Collections.unmodifiableSet(this.pointers.keySet());
+  }
+
+  @Override
+  public @NotNull Set<String> indexedPermissions() {
+    return Collections.unmodifiableSet(this.permissions.keySet());
+  }
+
+  @Override
+  public @NotNull Iterable<? extends Audience> audiences() {
+    synchronized (this.audiences) {
+      return new ArrayList<>(this.audiences.keySet());
+    }
+  }
+
+  @Override
+  public boolean add(final @NotNull Audience audience) {
+    requireNonNull(audience, "audience");
+    // added before its values are read, so that updates made in the meantime are not lost
+    final Entry entry = new Entry();
+    synchronized (this.audiences) {
+      if (this.audiences.putIfAbsent(audience, entry) != null) return false;
+    }
+    this.refresh(audience, entry, 0);
+    return true;
+  }
+
+  @Override
+  public boolean remove(final @NotNull Audience audience) {
+    requireNonNull(audience, "audience");
+    synchronized (this.audiences) {
+      final Entry entry = this.audiences.remove(audience);
+      if (entry == null) return false;
+      if (entry.values != null) this.unindex(audience, entry.values);
+      return true;
+    }
+  }
+
+  @Override
+  public boolean update(final @NotNull Audience audience) {
+    requireNonNull(audience, "audience");
+    final Entry entry;
+    final long version;
+    synchronized (this.audiences) {
+      entry = this.audiences.get(audience);
+      if (entry == null) return false;
+      version = entry.version;
+    }
+    this.refresh(audience, entry, version);
+    return true;
+  }
+
+  // Reads the values of an audience without holding the lock, only indexing them if no other values were indexed for
+  // the audience since the version was read, as those may be newer than ours
+  private void refresh(final Audience audience, final Entry entry, final long readVersion) {
+    long version = readVersion;
+    while (true) {
+      final Object[] values = this.values(audience);
+      synchronized (this.audiences) {
+        if (this.audiences.get(audience) != entry) return; // removed in the meantime
+        if (entry.version == version) {
+          if (entry.values != null) this.unindex(audience, entry.values);
+          entry.values = values;
+          entry.version++;
+          this.index(audience, values);
+          return;
+        }
+        version = entry.version;
+      }
+    }
+  }
+
+  @Override
+  public <T> @NotNull Audience filterAudience(final @NotNull Pointer<T> pointer, final @Nullable T value) {
+    requireNonNull(pointer, "pointer");
+    final Integer slot = this.pointers.get(pointer);
+    if (slot == null) return this.scan(audience -> Objects.equals(audience.getOrNull(pointer), value));
+    return this.lookup(slot, value == null ? NO_VALUE : value);
+  }
+
+  @Override
+  public @NotNull Audience permitted(final @NotNull String permission) {
+    requireNonNull(permission, "permission");
+    final Integer slot = this.permissions.get(permission);
+    if (slot == null) return this.scan(audience -> audience.get(PermissionChecker.POINTER).map(checker -> checker.test(permission)).orElse(false));
+    return this.lookup(slot, Boolean.TRUE);
+  }
+
+  private Object[] values(final Audience audience) {
+    final Object[] values = new Object[this.indexes.size()];
+    for (final Map.Entry<Pointer<?>, Integer> entry : this.pointers.entrySet()) {
+      values[entry.getValue()] = audience.getOrNull(entry.getKey());
+    }
+    if (!this.permissions.isEmpty()) {
+      final @Nullable PermissionChecker checker = audience.getOrNull(PermissionChecker.POINTER);
+      for (final Map.Entry<String, Integer> entry : this.permissions.entrySet()) {
+        values[entry.getValue()] = checker != null && checker.test(entry.getKey());
+      }
+    }
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] == null) values[i] = NO_VALUE;
+    }
+    return values;
+  }
+
+  private void index(final Audience audience, final Object[] values) {
+    for (int i = 0; i < values.length; i++) {
+      this.indexes.get(i).computeIfAbsent(values[i], value -> new LinkedHashSet<>()).add(audience);
+    }
+  }
+
+  private void unindex(final Audience audience, final Object[] values) {
+    for (int i = 0; i < values.length; i++) {
+      final Map<Object, Set<Audience>> index = this.indexes.get(i);
+      final Set<Audience> audiences = index.get(values[i]);
+      if (audiences != null && audiences.remove(audience) && audiences.isEmpty()) index.remove(values[i]);
+    }
+  }
+
+  private Audience lookup(final int slot, final Object value) {
+    synchronized (this.audiences) {
+      final @Nullable Set<Audience> audiences = this.indexes.get(slot).get(value);
+      if (audiences == null) return Audience.empty();
+      if (audiences.size() == 1) return audiences.iterator().next();
+      return Audience.audience(new ArrayList<>(audiences));
+    }
+  }
+
+  private Audience scan(final Predicate<? super Audience> filter) {
+    final List<Audience> audiences = new ArrayList<>();
+    for (final Audience audience : this.audiences()) {
+      if (filter.test(audience)) audiences.add(audience);
+    }
+    if (audiences.isEmpty()) return Audience.empty();
+    if (audiences.size() == 1) return audiences.get(0);
+    return Audience.audience(audiences);
+  }
+
+  @Override
+  public @NotNull Stream<? extends ExaminableProperty> examinableProperties() {
+    return Stream.of(
+      ExaminableProperty.of("pointers", this.pointers.keySet()),
+      ExaminableProperty.of("permissions", this.permissions.keySet()),
+      ExaminableProperty.of("audiences", this.audiences())
+    );
+  }
+
+  @Override
+  public String toString() {
+    return Internals.toString(this);
+  }
+
+  // guarded by the lock on the audiences
+  static final class Entry {
+    // the indexed values by slot, or null until they have first been read
+    Object @Nullable [] values;
+    // incremented each time values are indexed
+    long version;
+  }
+}
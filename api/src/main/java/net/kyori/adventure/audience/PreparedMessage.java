@@ -0,0 +1,105 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.audience;
+
+import java.util.function.Function;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A message prepared to be sent to many audiences.
+ *
+ * <p>An audience receiving a message will usually render, translate and serialize it before sending it, although
+ * most of the audiences receiving a broadcast share only a few distinct contexts. A prepared message lets the
+ * result of that work be stored against the context it was done for, such as the locale and protocol version of a
+ * viewer, and reused by every other audience with an equal context.</p>
+ *
+ * <pre>
+ *   final PreparedMessage message = PreparedMessage.preparedMessage(Component.translatable("example.greeting"));
+ *   audience.sendMessage(message); // forwarded to every member of the audience
+ *
+ *   // in a platform's audience
+ *   final Packet packet = message.prepare(Packet.class, new Context(this.locale(), this.protocol()), context -&#62; this.encode(message.message(), context));
+ * </pre>
+ *
+ * @see Audience#sendMessage(PreparedMessage)
+ * @since 4.18.0
+ */
+@ApiStatus.NonExtendable
+public interface PreparedMessage extends ComponentLike {
+  /**
+   * Creates a prepared message.
+   *
+   * @param message the message
+   * @return a prepared message
+   * @since 4.18.0
+   */
+  static @NotNull PreparedMessage preparedMessage(final @NotNull ComponentLike message) {
+    return new PreparedMessageImpl(requireNonNull(message, "message").asComponent());
+  }
+
+  /**
+   * Gets the message.
+   *
+   * @return the message
+   * @since 4.18.0
+   */
+  @NotNull Component message();
+
+  @Override
+  default @NotNull Component asComponent() {
+    return this.message();
+  }
+
+  /**
+   * Gets the result of a type prepared for a context, using {@code preparer} to prepare it if nothing of that type has
+   * yet been prepared for an equal context.
+   *
+   * <p>Contexts are compared using {@link Object#equals(Object)}, and should include everything that affects the result.
+   * The result prepared for a context is shared between everything preparing a result of the same type for an equal
+   * context, while results of different types are prepared and stored separately.</p>
+   *
+   * @param type the result type
+   * @param context the context
+   * @param preparer the function to prepare a result for the context
+   * @param <C> the context type
+   * @param <R> the result type
+   * @return the prepared result
+   * @since 4.18.0
+   */
+  <C, R> @NotNull R prepare(final @NotNull Class<R> type, final @NotNull C context, final @NotNull Function<? super C, ? extends R> preparer);
+
+  /**
+   * Gets the number of distinct results this message has been prepared for, counting each context once for each type
+   * of result prepared for it.
+   *
+   * @return the number of contexts
+   * @since 4.18.0
+   */
+  int contexts();
+}
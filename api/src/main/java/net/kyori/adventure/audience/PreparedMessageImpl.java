@@ -0,0 +1,87 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.audience;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import net.kyori.adventure.internal.Internals;
+import net.kyori.adventure.text.Component;
+import net.kyori.examination.Examinable;
+import net.kyori.examination.ExaminableProperty;
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+final class PreparedMessageImpl implements Examinable, PreparedMessage {
+  private final Component message;
+  // the results prepared for each context, by result type
+  private final Map<Class<?>, Map<Object, Object>> prepared = new ConcurrentHashMap<>();
+
+  PreparedMessageImpl(final Component message) {
+    this.message = message;
+  }
+
+  @Override
+  public @NotNull Component message() {
+    return this.message;
+  }
+
+  @Override
+  public <C, R> @NotNull R prepare(final @NotNull Class<R> type, final @NotNull C context, final @NotNull Function<? super C, ? extends R> preparer) {
+    requireNonNull(type, "type");
+    requireNonNull(context, "context");
+    requireNonNull(preparer, "preparer");
+    Map<Object, Object> prepared = this.prepared.get(type);
+    if (prepared == null) {
+      prepared = this.prepared.computeIfAbsent(type, key -> new ConcurrentHashMap<>());
+    }
+    final Object result = prepared.get(context);
+    if (result != null) return type.cast(result);
+    return type.cast(prepared.computeIfAbsent(context, key -> requireNonNull(preparer.apply(context), "prepared result")));
+  }
+
+  @Override
+  public int contexts() {
+    int contexts = 0;
+    for (final Map<Object, Object> prepared : this.prepared.values()) {
+      contexts += prepared.size();
+    }
+    return contexts;
+  }
+
+  @Override
+  public @NotNull Stream<? extends ExaminableProperty> examinableProperties() {
+    return Stream.of(
+      ExaminableProperty.of("message", this.message),
+      ExaminableProperty.of("contexts", this.contexts())
+    );
+  }
+
+  @Override
+  public String toString() {
+    return Internals.toString(this);
+  }
+}
@@ -24,6 +24,7 @@
 package net.kyori.adventure.bossbar;
 
 import java.util.Set;
+import java.util.function.Consumer;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.ComponentLike;
@@ -32,6 +33,7 @@ import net.kyori.examination.Examinable;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
 import org.jetbrains.annotations.UnmodifiableView;
 
 /**
@@ -360,6 +362,27 @@ public interface BossBar extends Examinable {
   @Contract("_ -> this")
   @NotNull BossBar removeFlags(final @NotNull Iterable<Flag> flags);
 
+  /**
+   * Applies several changes to this bossbar at once.
+   *
+   * <p>Changes made to the bossbar by {@code edit} are applied together: listeners are notified once, through
+   * {@link Listener#bossBarChanged(BossBar, ChangeSet)}, after {@code edit} completes. If {@code edit} throws an
+   * exception, none of its changes are applied.</p>
+   *
+   * <p>The bossbar is locked while {@code edit} runs, so changes made to it by other threads wait until the edit has
+   * completed.</p>
+   *
+   * <pre>
+   *   bar.edit(edit -&#62; edit.name(Component.text("Round 2")).progress(0.5f).color(BossBar.Color.RED));
+   * </pre>
+   *
+   * @param edit the changes to apply
+   * @return the bossbar
+   * @since 4.18.0
+   */
+  @Contract("_ -> this")
+  @NotNull BossBar edit(final @NotNull Consumer<? super BossBar> edit);
+
   /**
    * Adds a listener.
    *
@@ -424,6 +447,24 @@ public interface BossBar extends Examinable {
    */
   @ApiStatus.OverrideOnly
   interface Listener {
+    /**
+     * Bossbar changed.
+     *
+     * <p>This is called once for each change to the bossbar, or once for all the changes made by
+     * {@link BossBar#edit(Consumer)}. By default, it calls the listener method for each property that changed.</p>
+     *
+     * @param bar the bossbar
+     * @param changes the changes
+     * @since 4.18.0
+     */
+    default void bossBarChanged(final @NotNull BossBar bar, final @NotNull ChangeSet changes) {
+      if (changes.nameChanged()) this.bossBarNameChanged(bar, changes.oldName(), changes.newName());
+      if (changes.progressChanged()) this.bossBarProgressChanged(bar, changes.oldProgress(), changes.newProgress());
+      if (changes.colorChanged()) this.bossBarColorChanged(bar, changes.oldColor(), changes.newColor());
+      if (changes.overlayChanged()) this.bossBarOverlayChanged(bar, changes.oldOverlay(), changes.newOverlay());
+      if (changes.flagsChanged()) this.bossBarFlagsChanged(bar, changes.flagsAdded(), changes.flagsRemoved());
+    }
+
     /**
      * Bossbar name changed.
      *
@@ -496,6 +537,137 @@ public interface BossBar extends Examinable {
     }
   }
 
+  /**
+   * A set of changes made to a {@link BossBar}.
+   *
+   * @see Listener#bossBarChanged(BossBar, ChangeSet)
+   * @since 4.18.0
+   */
+  @ApiStatus.NonExtendable
+  interface ChangeSet extends Examinable {
+    /**
+     * Gets if the name changed.
+     *
+     * @return if the name changed
+     * @since 4.18.0
+     */
+    boolean nameChanged();
+
+    /**
+     * Gets the name before the changes.
+     *
+     * @return the old name
+     * @since 4.18.0
+     */
+    @NotNull Component oldName();
+
+    /**
+     * Gets the name after the changes.
+     *
+     * @return the new name
+     * @since 4.18.0
+     */
+    @NotNull Component newName();
+
+    /**
+     * Gets if the progress changed.
+     *
+     * @return if the progress changed
+     * @since 4.18.0
+     */
+    boolean progressChanged();
+
+    /**
+     * Gets the progress before the changes.
+     *
+     * @return the old progress
+     * @since 4.18.0
+     */
+    float oldProgress();
+
+    /**
+     * Gets the progress after the changes.
+     *
+     * @return the new progress
+     * @since 4.18.0
+     */
+    float newProgress();
+
+    /**
+     * Gets if the color changed.
+     *
+     * @return if the color changed
+     * @since 4.18.0
+     */
+    boolean colorChanged();
+
+    /**
+     * Gets the color before the changes.
+     *
+     * @return the old color
+     * @since 4.18.0
+     */
+    @NotNull Color oldColor();
+
+    /**
+     * Gets the color after the changes.
+     *
+     * @return the new color
+     * @since 4.18.0
+     */
+    @NotNull Color newColor();
+
+    /**
+     * Gets if the overlay changed.
+     *
+     * @return if the overlay changed
+     * @since 4.18.0
+     */
+    boolean overlayChanged();
+
+    /**
+     * Gets the overlay before the changes.
+     *
+     * @return the old overlay
+     * @since 4.18.0
+     */
+    @NotNull Overlay oldOverlay();
+
+    /**
+     * Gets the overlay after the changes.
+     *
+     * @return the new overlay
+     * @since 4.18.0
+     */
+    @NotNull Overlay newOverlay();
+
+    /**
+     * Gets if the flags changed.
+     *
+     * @return if the flags changed
+     * @since 4.18.0
+     */
+    default boolean flagsChanged() {
+      return !this.flagsAdded().isEmpty() || !this.flagsRemoved().isEmpty();
+    }
+
+    /**
+     * Gets the flags added to the bossbar.
+     *
+     * @return the flags added
+     * @since 4.18.0
+     */
+    @Unmodifiable @NotNull Set<Flag> flagsAdded();
+
+    /**
+     * Gets the flags removed from the bossbar.
+     *
+     * @return the flags removed
+     * @since 4.18.0
+     */
+    @Unmodifiable @NotNull Set<Flag> flagsRemoved();
+  }
+
   /**
    * One of the colors the bar component of a {@link BossBar}.
    *
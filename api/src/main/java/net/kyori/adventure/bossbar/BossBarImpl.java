@@ -23,6 +23,7 @@
  */
 package net.kyori.adventure.bossbar;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
@@ -30,8 +31,6 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.function.BiConsumer;
-import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 import net.kyori.adventure.internal.Internals;
@@ -52,6 +51,7 @@ final class BossBarImpl extends HackyBossBarPlatformBridge implements BossBar {
   private Color color;
   private Overlay overlay;
   private final Set<Flag> flags = EnumSet.noneOf(Flag.class);
+  private boolean editing;
   @Nullable BossBarImplementation implementation;
 
   @ApiStatus.Internal
@@ -93,11 +93,14 @@ final class BossBarImpl extends HackyBossBarPlatformBridge implements BossBar {
   @Override
   public @NotNull BossBar name(final @NotNull Component newName) {
     requireNonNull(newName, "name");
-    final Component oldName = this.name;
-    if (!Objects.equals(newName, oldName)) {
+    final @Nullable ChangeSetImpl changes;
+    synchronized (this) {
+      if (!(!Objects.equals(newName, this.name))) return this;
+      final Snapshot snapshot = this.snapshot();
       this.name = newName;
-      this.forEachListener(listener -> listener.bossBarNameChanged(this, oldName, newName));
+      changes = this.changes(snapshot);
     }
+    this.notifyListeners(changes);
     return this;
   }
 
@@ -109,11 +112,14 @@ final class BossBarImpl extends HackyBossBarPlatformBridge implements BossBar {
   @Override
   public @NotNull BossBar progress(final float newProgress) {
     checkProgress(newProgress);
-    final float oldProgress = this.progress;
-    if (newProgress != oldProgress) {
+    final @Nullable ChangeSetImpl changes;
+    synchronized (this) {
+      if (!(newProgress != this.progress)) return this;
+      final Snapshot snapshot = this.snapshot();
       this.progress = newProgress;
-      this.forEachListener(listener -> listener.bossBarProgressChanged(this, oldProgress, newProgress));
+      changes = this.changes(snapshot);
     }
+    this.notifyListeners(changes);
     return this;
   }
 
@@ -131,11 +137,14 @@ final class BossBarImpl extends HackyBossBarPlatformBridge implements BossBar {
   @Override
   public @NotNull BossBar color(final @NotNull Color newColor) {
     requireNonNull(newColor, "color");
-    final Color oldColor = this.color;
-    if (newColor != oldColor) {
+    final @Nullable ChangeSetImpl changes;
+    synchronized (this) {
+      if (!(newColor != this.color)) return this;
+      final Snapshot snapshot = this.snapshot();
       this.color = newColor;
-      this.forEachListener(listener -> listener.bossBarColorChanged(this, oldColor, newColor));
+      changes = this.changes(snapshot);
     }
+    this.notifyListeners(changes);
     return this;
   }
 
@@ -147,11 +156,14 @@ final class BossBarImpl extends HackyBossBarPlatformBridge implements BossBar {
   @Override
   public @NotNull BossBar overlay(final @NotNull Overlay newOverlay) {
     requireNonNull(newOverlay, "overlay");
-    final Overlay oldOverlay = this.overlay;
-    if (newOverlay != oldOverlay) {
+    final @Nullable ChangeSetImpl changes;
+    synchronized (this) {
+      if (!(newOverlay != this.overlay)) return this;
+      final Snapshot snapshot = this.snapshot();
       this.overlay = newOverlay;
-      this.forEachListener(listener -> listener.bossBarOverlayChanged(this, oldOverlay, newOverlay));
+      changes = this.changes(snapshot);
     }
+    this.notifyListeners(changes);
     return this;
   }
 
@@ -162,20 +174,15 @@ final class BossBarImpl extends HackyBossBarPlatformBridge implements BossBar {
 
   @Override
   public @NotNull BossBar flags(final @NotNull Set<Flag> newFlags) {
-    if (newFlags.isEmpty() && !this.flags.isEmpty()) {
-      final Set<Flag> oldFlags = EnumSet.copyOf(this.flags);
-      this.flags.clear();
-      this.forEachListener(listener -> listener.bossBarFlagsChanged(this, Collections.emptySet(), oldFlags));
-    } else if (!this.flags.equals(newFlags)) {
-      final Set<Flag> oldFlags = EnumSet.copyOf(this.flags);
+    final @Nullable ChangeSetImpl changes;
+    synchronized (this) {
+      if (this.flags.equals(newFlags)) return this;
+      final Snapshot snapshot = this.snapshotWithFlags();
       this.flags.clear();
       this.flags.addAll(newFlags);
-      final Set<BossBar.Flag> added = EnumSet.copyOf(newFlags);
-      added.removeIf(oldFlags::contains);
-      final Set<BossBar.Flag> removed = EnumSet.copyOf(oldFlags);
-      removed.removeIf(this.flags::contains);
-      this.forEachListener(listener -> listener.bossBarFlagsChanged(this, added, removed));
+      changes = this.changes(snapshot);
     }
+    this.notifyListeners(changes);
     return this;
   }
 
@@ -186,72 +193,105 @@ final class BossBarImpl extends HackyBossBarPlatformBridge implements BossBar {
 
   @Override
   public @NotNull BossBar addFlag(final @NotNull Flag flag) {
-    return this.editFlags(flag, Set::add, BossBarImpl::onFlagsAdded);
+    return this.editFlags(Collections.singleton(flag), true);
   }
 
   @Override
   public @NotNull BossBar removeFlag(final @NotNull Flag flag) {
-    return this.editFlags(flag, Set::remove, BossBarImpl::onFlagsRemoved);
-  }
-
-  private @NotNull BossBar editFlags(final @NotNull Flag flag, final @NotNull BiPredicate<Set<Flag>, Flag> predicate, final BiConsumer<BossBarImpl, Set<Flag>> onChange) {
-    if (predicate.test(this.flags, flag)) {
-      onChange.accept(this, Collections.singleton(flag));
-    }
-    return this;
+    return this.editFlags(Collections.singleton(flag), false);
   }
 
   @Override
   public @NotNull BossBar addFlags(final @NotNull Flag@NotNull... flags) {
-    return this.editFlags(flags, Set::add, BossBarImpl::onFlagsAdded);
+    return this.editFlags(Arrays.asList(flags), true);
   }
 
   @Override
   public @NotNull BossBar removeFlags(final @NotNull Flag@NotNull... flags) {
-    return this.editFlags(flags, Set::remove, BossBarImpl::onFlagsRemoved);
+    return this.editFlags(Arrays.asList(flags), false);
   }
 
-  private @NotNull BossBar editFlags(final Flag[] flags, final BiPredicate<Set<Flag>, Flag> predicate, final BiConsumer<BossBarImpl, Set<Flag>> onChange) {
-    if (flags.length == 0) return this;
-    Set<Flag> changes = null;
-    for (int i = 0, length = flags.length; i < length; i++) {
-      if (predicate.test(this.flags, flags[i])) {
-        if (changes == null) {
-          changes = EnumSet.noneOf(Flag.class);
+  @Override
+  public @NotNull BossBar addFlags(final @NotNull Iterable<Flag> flags) {
+    return this.editFlags(flags, true);
+  }
+
+  @Override
+  public @NotNull BossBar removeFlags(final @NotNull Iterable<Flag> flags) {
+    return this.editFlags(flags, false);
+  }
+
+  private @NotNull BossBar editFlags(final @NotNull Iterable<Flag> flags, final boolean add) {
+    final @Nullable ChangeSetImpl changes;
+    synchronized (this) {
+      // only taken once a flag actually changes, so that calls that change nothing do not allocate
+      @Nullable Snapshot snapshot = null;
+      boolean changed = false;
+      for (final Flag flag : flags) {
+        if (!changed && this.flags.contains(flag) != add) {
+          snapshot = this.snapshotWithFlags();
+          changed = true;
+        }
+        if (add) {
+          this.flags.add(flag);
+        } else {
+          this.flags.remove(flag);
         }
-        changes.add(flags[i]);
       }
+      changes = this.changes(snapshot);
     }
-    if (changes != null) {
-      onChange.accept(this, changes);
-    }
+    this.notifyListeners(changes);
     return this;
   }
 
   @Override
-  public @NotNull BossBar addFlags(final @NotNull Iterable<Flag> flags) {
-    return this.editFlags(flags, Set::add, BossBarImpl::onFlagsAdded);
+  public @NotNull BossBar edit(final @NotNull Consumer<? super BossBar> edit) {
+    requireNonNull(edit, "edit");
+    final @Nullable ChangeSetImpl changes;
+    synchronized (this) {
+      if (this.editing) {
+        // the outermost edit notifies listeners, and restores the bossbar if anything fails
+        edit.accept(this);
+        return this;
+      }
+      final Snapshot snapshot = new Snapshot(this, EnumSet.copyOf(this.flags));
+      this.editing = true;
+      boolean completed = false;
+      try {
+        edit.accept(this);
+        completed = true;
+      } finally {
+        this.editing = false;
+        if (!completed) snapshot.restore(this);
+      }
+      changes = this.changes(snapshot);
+    }
+    this.notifyListeners(changes);
+    return this;
   }
 
-  @Override
-  public @NotNull BossBar removeFlags(final @NotNull Iterable<Flag> flags) {
-    return this.editFlags(flags, Set::remove, BossBarImpl::onFlagsRemoved);
+  // the properties of this bossbar before a change, or null if no listeners need to be notified of it
+  private @Nullable Snapshot snapshot() {
+    return this.editing || this.listeners.isEmpty() ? null : new Snapshot(this, null);
   }
 
-  private @NotNull BossBar editFlags(final Iterable<Flag> flags, final BiPredicate<Set<Flag>, Flag> predicate, final BiConsumer<BossBarImpl, Set<Flag>> onChange) {
-    Set<Flag> changes = null;
-    for (final Flag flag : flags) {
-      if (predicate.test(this.flags, flag)) {
-        if (changes == null) {
-          changes = EnumSet.noneOf(Flag.class);
-        }
-        changes.add(flag);
-      }
-    }
+  private @Nullable Snapshot snapshotWithFlags() {
+    return this.editing || this.listeners.isEmpty() ? null : new Snapshot(this, EnumSet.copyOf(this.flags));
+  }
+
+  // the changes made since a snapshot, or null if there are none to notify listeners of, which must be called while
+  // holding the lock on this bossbar
+  private @Nullable ChangeSetImpl changes(final @Nullable Snapshot snapshot) {
+    if (snapshot == null || this.listeners.isEmpty()) return null;
+    final ChangeSetImpl changes = new ChangeSetImpl(snapshot, this);
+    return changes.changed() ? changes : null;
+  }
+
+  // listeners are notified once the lock on this bossbar has been released, so they cannot block other changes
+  private void notifyListeners(final @Nullable ChangeSetImpl changes) {
     if (changes != null) {
-      onChange.accept(this, changes);
+      this.forEachListener(listener -> listener.bossBarChanged(this, changes));
     }
-    return this;
   }
 
   @Override
@@ -280,14 +320,6 @@ final class BossBarImpl extends HackyBossBarPlatformBridge implements BossBar {
     }
   }
 
-  private static void onFlagsAdded(final BossBarImpl bar, final Set<Flag> flagsAdded) {
-    bar.forEachListener(listener -> listener.bossBarFlagsChanged(bar, flagsAdded, Collections.emptySet()));
-  }
-
-  private static void onFlagsRemoved(final BossBarImpl bar, final Set<Flag> flagsRemoved) {
-    bar.forEachListener(listener -> listener.bossBarFlagsChanged(bar, Collections.emptySet(), flagsRemoved));
-  }
-
   @Override
   public @NotNull Stream<? extends ExaminableProperty> examinableProperties() {
     return Stream.of(
@@ -303,4 +335,184 @@ final class BossBarImpl extends HackyBossBarPlatformBridge implements BossBar {
   public String toString() {
     return Internals.toString(this);
   }
+
+  // the properties of a bossbar before it was changed
+  static final class Snapshot {
+    final Component name;
+    final float progress;
+    final Color color;
+    final Overlay overlay;
+    // null if the change can not have changed the flags
+    final @Nullable Set<Flag> flags;
+
+    Snapshot(final BossBarImpl bar, final @Nullable Set<Flag> flags) {
+      this.name = bar.name;
+      this.progress = bar.progress;
+      this.color = bar.color;
+      this.overlay = bar.overlay;
+      this.flags = flags;
+    }
+
+    void restore(final BossBarImpl bar) {
+      bar.name = this.name;
+      bar.progress = this.progress;
+      bar.color = this.color;
+      bar.overlay = this.overlay;
+      if (this.flags != null) {
+        bar.flags.clear();
+        bar.flags.addAll(this.flags);
+      }
+    }
+  }
+
+  static final class ChangeSetImpl implements ChangeSet {
+    private final Component oldName;
+    private final Component newName;
+    private final float oldProgress;
+    private final float newProgress;
+    private final Color oldColor;
+    private final Color newColor;
+    private final Overlay oldOverlay;
+    private final Overlay newOverlay;
+    // both null if the flags did not change
+    private final @Nullable Set<Flag> oldFlags;
+    private final @Nullable Set<Flag> newFlags;
+    // computed when first requested, as most listeners never ask
+    private @Nullable Set<Flag> flagsAdded;
+    private @Nullable Set<Flag> flagsRemoved;
+
+    ChangeSetImpl(final Snapshot snapshot, final BossBarImpl bar) {
+      this.oldName = snapshot.name;
+      this.newName = bar.name;
+      this.oldProgress = snapshot.progress;
+      this.newProgress = bar.progress;
+      this.oldColor = snapshot.color;
+      this.newColor = bar.color;
+      this.oldOverlay = snapshot.overlay;
+      this.newOverlay = bar.overlay;
+      if (snapshot.flags == null || snapshot.flags.equals(bar.flags)) {
+        this.oldFlags = null;
+        this.newFlags = null;
+      } else {
+        this.oldFlags = snapshot.flags;
+        this.newFlags = EnumSet.copyOf(bar.flags);
+      }
+    }
+
+    private static Set<Flag> difference(final Set<Flag> flags, final Set<Flag> removed) {
+      final Set<Flag> difference = EnumSet.copyOf(flags);
+      difference.removeAll(removed);
+      return Collections.unmodifiableSet(difference);
+    }
+
+    boolean changed() {
+      return this.nameChanged() || this.progressChanged() || this.colorChanged() || this.overlayChanged() || this.flagsChanged();
+    }
+
+    @Override
+    public boolean nameChanged() {
+      return !Objects.equals(this.oldName, this.newName);
+    }
+
+    @Override
+    public @NotNull Component oldName() {
+      return this.oldName;
+    }
+
+    @Override
+    public @NotNull Component newName() {
+      return this.newName;
+    }
+
+    @Override
+    public boolean progressChanged() {
+      return this.oldProgress != this.newProgress;
+    }
+
+    @Override
+    public float oldProgress() {
+      return this.oldProgress;
+    }
+
+    @Override
+    public float newProgress() {
+      return this.newProgress;
+    }
+
+    @Override
+    public boolean colorChanged() {
+      return this.oldColor != this.newColor;
+    }
+
+    @Override
+    public @NotNull Color oldColor() {
+      return this.oldColor;
+    }
+
+    @Override
+    public @NotNull Color newColor() {
+      return this.newColor;
+    }
+
+    @Override
+    public boolean overlayChanged() {
+      return this.oldOverlay != this.newOverlay;
+    }
+
+    @Override
+    public @NotNull Overlay oldOverlay() {
+      return this.oldOverlay;
+    }
+
+    @Override
+    public @NotNull Overlay newOverlay() {
+      return this.newOverlay;
+    }
+
+    @Override
+    public boolean flagsChanged() {
+      return this.oldFlags != null;
+    }
+
+    @Override
+    public @NotNull Set<Flag> flagsAdded() {
+      if (this.oldFlags == null || this.newFlags == null) return Collections.emptySet();
+      Set<Flag> added = this.flagsAdded;
+      if (added == null) {
+        added = this.flagsAdded = difference(this.newFlags, this.oldFlags);
+      }
+      return added;
+    }
+
+    @Override
+    public @NotNull Set<Flag> flagsRemoved() {
+      if (this.oldFlags == null || this.newFlags == null) return Collections.emptySet();
+      Set<Flag> removed = this.flagsRemoved;
+      if (removed == null) {
+        removed = this.flagsRemoved = difference(this.oldFlags, this.newFlags);
+      }
+      return removed;
+    }
+
+    @Override
+    public @NotNull Stream<? extends ExaminableProperty> examinableProperties() {
+      return Stream.of(
+        ExaminableProperty.of("oldName", this.oldName),
+        ExaminableProperty.of("newName", this.newName),
+        ExaminableProperty.of("oldProgress", this.oldProgress),
+        ExaminableProperty.of("newProgress", this.newProgress),
+        ExaminableProperty.of("oldColor", this.oldColor),
+        ExaminableProperty.of("newColor", this.newColor),
+        ExaminableProperty.of("oldOverlay", this.oldOverlay),
+        ExaminableProperty.of("newOverlay", this.newOverlay),
+        ExaminableProperty.of("flagsAdded", this.flagsAdded()),
+        ExaminableProperty.of("flagsRemoved", this.flagsRemoved())
+      );
+    }
+
+    @Override
+    public String toString() {
+      return Internals.toString(this);
+    }
+  }
 }
@@ -0,0 +1,336 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.internal;
+
+import java.text.AttributedCharacterIterator;
+import java.text.Format;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link MessageFormat} compiled into a sequence of literal and argument segments.
+ *
+ * <p>Compiling evaluates the format once, so that rendering a translation only has to splice arguments between
+ * the literal segments, producing the same runs as {@link MessageFormat#formatToCharacterIterator(Object)}.</p>
+ *
+ * <p>A format that will only be used once can instead be {@link #uncompiled(MessageFormat) wrapped} without being
+ * compiled, so that each use evaluates the format directly.</p>
+ *
+ * <p>Templates are immutable, and can be rendered from any number of threads at once.</p>
+ *
+ * @since 4.18.0
+ */
+@ApiStatus.Internal
+@SuppressWarnings("JdkObsolete") // MessageFormat requires StringBuffer in its api
+public final class TranslationTemplate {
+  private static final String NULL = String.valueOf((Object) null);
+  // NumberFormat is not thread-safe, so each thread has its own
+  private static final ThreadLocal<Map<Locale, NumberFormat>> NUMBER_FORMATS = ThreadLocal.withInitial(HashMap::new);
+
+  private final MessageFormat format;
+  // the remaining fields are null if the format was not compiled
+  private final @Nullable String text;
+  // a null literal marks an argument segment
+  private final String @Nullable [] literals;
+  private final int @Nullable [] arguments;
+  // the formats given to each argument by the pattern, which are only copied and never used directly
+  private final @Nullable Format @Nullable [] argumentFormats;
+  // a copy of each format that is not in use, taken while formatting so that only threads formatting at once need their own
+  private final @Nullable AtomicReferenceArray<Format> idleFormats;
+
+  private TranslationTemplate(final MessageFormat format, final String text, final String[] literals, final int[] arguments, final @Nullable Format[] argumentFormats) {
+    this.format = format;
+    this.text = text;
+    this.literals = literals;
+    this.arguments = arguments;
+    this.argumentFormats = argumentFormats;
+    this.idleFormats = new AtomicReferenceArray<>(argumentFormats.length);
+  }
+
+  private TranslationTemplate(final MessageFormat format) {
+    this.format = format;
+    this.text = null;
+    this.literals = null;
+    this.arguments = null;
+    this.argumentFormats = null;
+    this.idleFormats = null;
+  }
+
+  /**
+   * Compiles a message format.
+   *
+   * @param format the message format
+   * @return the template
+   * @since 4.18.0
+   */
+  public static @NotNull TranslationTemplate compile(final @NotNull MessageFormat format) {
+    requireNonNull(format, "format");
+    final List<String> literals = new ArrayList<>();
+    final List<Integer> arguments = new ArrayList<>();
+    final String text;
+    final Format[] argumentFormats;
+    synchronized (format) {
+      text = format.format(null, new StringBuffer(), null).toString();
+      argumentFormats = format.getFormatsByArgumentIndex();
+      // copied, so that the formats are not shared with the message format
+      for (int i = 0; i < argumentFormats.length; i++) {
+        if (argumentFormats[i] != null) {
+          argumentFormats[i] = (Format) argumentFormats[i].clone();
+        }
+      }
+      // every argument is formatted as "null", so repeated arguments collapsed into a single run can be told apart
+      final Object[] nulls = new Object[format.getFormatsByArgumentIndex().length];
+      final String formatted = format.format(nulls, new StringBuffer(), null).toString();
+      final AttributedCharacterIterator it = format.formatToCharacterIterator(nulls);
+      while (it.getIndex() < it.getEndIndex()) {
+        final int start = it.getIndex();
+        final int end = it.getRunLimit();
+        final Integer index = (Integer) it.getAttribute(MessageFormat.Field.ARGUMENT);
+        if (index != null) {
+          for (int i = 0, occurrences = (end - start) / NULL.length(); i < occurrences; i++) {
+            literals.add(null);
+            arguments.add(index);
+          }
+        } else {
+          literals.add(formatted.substring(start, end));
+          arguments.add(-1);
+        }
+        it.setIndex(end);
+      }
+    }
+    final int[] argumentArray = new int[arguments.size()];
+    for (int i = 0; i < argumentArray.length; i++) {
+      argumentArray[i] = arguments.get(i);
+    }
+    return new TranslationTemplate(format, text, literals.toArray(new String[0]), argumentArray, argumentFormats);
+  }
+
+  /**
+   * Wraps a message format without compiling it.
+   *
+   * <p>The template evaluates the format each time it is used, which costs less than compiling it if the template is
+   * only used once, such as for a format from a translator that does not cache templates.</p>
+   *
+   * @param format the message format
+   * @return the template
+   * @since 4.18.0
+   */
+  public static @NotNull TranslationTemplate uncompiled(final @NotNull MessageFormat format) {
+    return new TranslationTemplate(requireNonNull(format, "format"));
+  }
+
+  /**
+   * Gets the message format this template was compiled from.
+   *
+   * @return the message format
+   * @since 4.18.0
+   */
+  public @NotNull MessageFormat format() {
+    return this.format;
+  }
+
+  /**
+   * Gets the text of this template when formatted without arguments.
+   *
+   * @return the text
+   * @since 4.18.0
+   */
+  public @NotNull String text() {
+    if (this.text == null) {
+      synchronized (this.format) {
+        return this.format.format(null, new StringBuffer(), null).toString();
+      }
+    }
+    return this.text;
+  }
+
+  /**
+   * Splices this template, passing each run of literal text and each argument to {@code output} in order.
+   *
+   * <p>Arguments with an index of at least {@code argumentCount} are treated as literal text, and adjacent
+   * occurrences of the same argument are passed once, both as {@link MessageFormat} does.</p>
+   *
+   * @param argumentCount the number of arguments available
+   * @param output the output
+   * @since 4.18.0
+   */
+  public void splice(final int argumentCount, final @NotNull Output output) {
+    if (this.literals == null) {
+      this.spliceUncompiled(argumentCount, output);
+      return;
+    }
+    @Nullable String pending = null;
+    int lastArgument = -1;
+    for (int i = 0; i < this.literals.length; i++) {
+      String literal = this.literals[i];
+      if (literal == null) {
+        final int argument = this.arguments[i];
+        if (argument < argumentCount) {
+          if (argument != lastArgument) {
+            if (pending != null) {
+              output.literal(pending);
+              pending = null;
+            }
+            output.argument(argument);
+            lastArgument = argument;
+          }
+          continue;
+        }
+        literal = "{" + argument + "}";
+      }
+      pending = pending == null ? literal : pending + literal;
+      lastArgument = -1;
+    }
+    if (pending != null) {
+      output.literal(pending);
+    }
+  }
+
+  // Splices the runs of the format evaluated directly, which are the runs a compiled template would produce
+  private void spliceUncompiled(final int argumentCount, final Output output) {
+    final AttributedCharacterIterator it;
+    synchronized (this.format) {
+      it = this.format.formatToCharacterIterator(new Object[argumentCount]);
+    }
+    final StringBuilder literal = new StringBuilder();
+    while (it.getIndex() < it.getEndIndex()) {
+      final int end = it.getRunLimit();
+      final Integer index = (Integer) it.getAttribute(MessageFormat.Field.ARGUMENT);
+      if (index != null) {
+        output.argument(index);
+        it.setIndex(end);
+      } else {
+        literal.setLength(0);
+        for (char c = it.current(); it.getIndex() < end; c = it.next()) {
+          literal.append(c);
+        }
+        output.literal(literal.toString());
+      }
+    }
+  }
+
+  /**
+   * Formats a value for an argument as {@link MessageFormat} would.
+   *
+   * <p>Values are formatted using the format the pattern gives the argument, such as {@code {0,number,#.##}}. Numbers
+   * without a format are formatted using a number format for the locale of the message format, and any other value is
+   * converted using {@link String#valueOf(Object)}.</p>
+   *
+   * @param index the argument index
+   * @param value the value
+   * @return the formatted value
+   * @since 4.18.0
+   */
+  public @NotNull String formatArgument(final int index, final @NotNull Object value) {
+    if (this.argumentFormats == null) {
+      synchronized (this.format) {
+        final @Nullable Format[] formats = this.format.getFormatsByArgumentIndex();
+        if (index < formats.length && formats[index] != null) {
+          try {
+            return formats[index].format(value);
+          } catch (final IllegalArgumentException e) {
+            return String.valueOf(value);
+          }
+        }
+      }
+    } else if (index < this.argumentFormats.length && this.argumentFormats[index] != null) {
+      final Format format = this.argumentFormats[index];
+      @Nullable Format copy = this.idleFormats.getAndSet(index, null);
+      if (copy == null) {
+        copy = (Format) format.clone();
+      }
+      try {
+        return copy.format(value);
+      } catch (final IllegalArgumentException e) {
+        // the format cannot handle this type of value
+        return String.valueOf(value);
+      } finally {
+        this.idleFormats.set(index, copy);
+      }
+    }
+    final @Nullable Locale locale = this.format.getLocale();
+    if (value instanceof Number && locale != null) {
+      return NUMBER_FORMATS.get().computeIfAbsent(locale, NumberFormat::getInstance).format(value);
+    }
+    return String.valueOf(value);
+  }
+
+  @Override
+  public String toString() {
+    return this.format.toPattern();
+  }
+
+  /**
+   * Something that can provide compiled templates for translations.
+   *
+   * @since 4.18.0
+   */
+  @ApiStatus.Internal
+  public interface Source {
+    /**
+     * Gets a compiled template for a translation key and locale.
+     *
+     * @param key the translation key
+     * @param locale the locale
+     * @return a template or {@code null} if there is no translation
+     * @since 4.18.0
+     */
+    @Nullable TranslationTemplate template(final @NotNull String key, final @NotNull Locale locale);
+  }
+
+  /**
+   * Receives the segments of a spliced template.
+   *
+   * @since 4.18.0
+   */
+  @ApiStatus.Internal
+  public interface Output {
+    /**
+     * Receives a run of literal text.
+     *
+     * @param text the text
+     * @since 4.18.0
+     */
+    void literal(final @NotNull String text);
+
+    /**
+     * Receives an argument.
+     *
+     * @param index the argument index
+     * @since 4.18.0
+     */
+    void argument(final int index);
+  }
+}
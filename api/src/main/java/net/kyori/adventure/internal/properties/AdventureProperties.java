@@ -59,6 +59,18 @@ public final class AdventureProperties {
    * @since 4.10.0
    */
   public static final Property<Boolean> TEXT_WARN_WHEN_LEGACY_FORMATTING_DETECTED = property("text.warnWhenLegacyFormattingDetected", Boolean::parseBoolean, Boolean.FALSE);
+  /**
+   * Property for specifying whether equal styles should be interned into a shared pool when created.
+   *
+   * @since 4.18.0
+   */
+  public static final Property<Boolean> TEXT_STYLE_INTERNING = property("text.styleInterning", Boolean::parseBoolean, Boolean.FALSE);
+  /**
+   * Property for specifying whether translation registries should resolve translations into per-locale tables.
+   *
+   * @since 4.18.0
+   */
+  public static final Property<Boolean> TRANSLATION_LOCALE_TABLES = property("translation.localeTables", Boolean::parseBoolean, Boolean.FALSE);
 
   private AdventureProperties() {
   }
@@ -23,18 +23,45 @@
  */
 package net.kyori.adventure.pointer;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import net.kyori.adventure.internal.Internals;
 import net.kyori.adventure.key.Key;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 final class PointerImpl<T> implements Pointer<T> {
+  // the number of pointers that can be given an id, which also bounds the arrays indexed by them
+  static final int MAXIMUM_IDS = 64;
+  // equal pointers share a dense id, which PointersImpl and PointersSupplierImpl use to store values in arrays
+  private static final Map<PointerImpl<?>, Integer> IDS = new ConcurrentHashMap<>();
+  private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
   private final Class<T> type;
   private final Key key;
+  // -1 if this pointer has no id, and should be looked up by equality instead
+  final int id;
 
   PointerImpl(final Class<T> type, final Key key) {
     this.type = type;
     this.key = key;
+    this.id = id(this);
+  }
+
+  private static int id(final PointerImpl<?> pointer) {
+    // ids are held forever, so they are only given to pointers that can not keep another class loader alive
+    if (!ownClass(pointer.type) || !ownClass(pointer.key.getClass())) return -1;
+    final Integer id = IDS.computeIfAbsent(pointer, key -> {
+      final int next = NEXT_ID.getAndUpdate(value -> value < MAXIMUM_IDS ? value + 1 : value);
+      return next < MAXIMUM_IDS ? next : null;
+    });
+    return id == null ? -1 : id;
+  }
+
+  private static boolean ownClass(final Class<?> type) {
+    final ClassLoader loader = type.getClassLoader();
+    return loader == null || loader == PointerImpl.class.getClassLoader();
   }
 
   @Override
@@ -65,6 +65,21 @@ public interface Pointered {
     return this.pointers().getOrDefault(pointer, defaultValue);
   }
 
+  /**
+   * Gets the value of {@code pointer}, or {@code null} if this {@code Audience} is unable to provide a value for it.
+   *
+   * <p>Unlike {@link #get(Pointer)}, this does not wrap the value in an {@link Optional}.</p>
+   *
+   * @param pointer the pointer
+   * @param <T> the type
+   * @return the value, or {@code null}
+   * @since 4.18.0
+   */
+  @SuppressWarnings("checkstyle:MethodName")
+  default <T> @Nullable T getOrNull(final @NotNull Pointer<T> pointer) {
+    return this.pointers().getOrNull(pointer);
+  }
+
   /**
    * Gets the value of {@code pointer}.
    *
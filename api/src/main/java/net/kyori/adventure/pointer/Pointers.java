@@ -88,6 +88,21 @@ public interface Pointers extends Buildable<Pointers, Pointers.Builder> {
     return this.get(pointer).orElse(defaultValue);
   }
 
+  /**
+   * Gets the value of {@code pointer}, or {@code null} if a value is unable to be provided.
+   *
+   * <p>Unlike {@link #get(Pointer)}, this does not wrap the value in an {@link Optional}.</p>
+   *
+   * @param pointer the pointer
+   * @param <T> the type
+   * @return the value, or {@code null}
+   * @since 4.18.0
+   */
+  @SuppressWarnings("checkstyle:MethodName")
+  default <T> @Nullable T getOrNull(final @NotNull Pointer<T> pointer) {
+    return this.getOrDefault(pointer, null);
+  }
+
   /**
    * Gets the value of {@code pointer}.
    *
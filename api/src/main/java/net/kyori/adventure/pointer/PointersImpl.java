@@ -30,6 +30,7 @@ import java.util.Optional;
 import java.util.function.Supplier;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnknownNullability;
 
 final class PointersImpl implements Pointers {
   static final Pointers EMPTY = new Pointers() {
@@ -55,16 +56,39 @@ final class PointersImpl implements Pointers {
   };
 
   private final Map<Pointer<?>, Supplier<?>> pointers;
+  // the suppliers of pointers with an id, indexed by that id
+  private final Supplier<?>[] suppliers;
 
   PointersImpl(final @NotNull BuilderImpl builder) {
     this.pointers = new HashMap<>(builder.pointers);
+    int length = 0;
+    for (final Pointer<?> pointer : this.pointers.keySet()) {
+      length = Math.max(length, id(pointer) + 1);
+    }
+    this.suppliers = new Supplier<?>[length];
+    for (final Map.Entry<Pointer<?>, Supplier<?>> entry : this.pointers.entrySet()) {
+      final int id = id(entry.getKey());
+      if (id >= 0) this.suppliers[id] = entry.getValue();
+    }
+  }
+
+  static int id(final @NotNull Pointer<?> pointer) {
+    return pointer instanceof PointerImpl<?> ? ((PointerImpl<?>) pointer).id : -1;
+  }
+
+  private @Nullable Supplier<?> supplier(final @NotNull Pointer<?> pointer) {
+    final int id = id(pointer);
+    if (id >= 0) {
+      return id < this.suppliers.length ? this.suppliers[id] : null;
+    }
+    return this.pointers.get(pointer); // without an id
   }
 
   @Override
   @SuppressWarnings("unchecked") // all values are checked on entry
   public @NotNull <T> Optional<T> get(final @NotNull Pointer<T> pointer) {
     Objects.requireNonNull(pointer, "pointer");
-    final Supplier<?> supplier = this.pointers.get(pointer);
+    final Supplier<?> supplier = this.supplier(pointer);
     if (supplier == null) {
       return Optional.empty();
     } else {
@@ -72,10 +96,30 @@ final class PointersImpl implements Pointers {
     }
   }
 
+  @Override
+  @SuppressWarnings("unchecked") // all values are checked on entry
+  public <T> @Nullable T getOrDefault(final @NotNull Pointer<T> pointer, final @Nullable T defaultValue) {
+    Objects.requireNonNull(pointer, "pointer");
+    final Supplier<?> supplier = this.supplier(pointer);
+    if (supplier == null) return defaultValue;
+    final T value = (T) supplier.get();
+    return value == null ? defaultValue : value;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked") // all values are checked on entry
+  public <T> @UnknownNullability T getOrDefaultFrom(final @NotNull Pointer<T> pointer, final @NotNull Supplier<? extends T> defaultValue) {
+    Objects.requireNonNull(pointer, "pointer");
+    final Supplier<?> supplier = this.supplier(pointer);
+    if (supplier == null) return defaultValue.get();
+    final T value = (T) supplier.get();
+    return value == null ? defaultValue.get() : value;
+  }
+
   @Override
   public <T> boolean supports(final @NotNull Pointer<T> pointer) {
     Objects.requireNonNull(pointer, "pointer");
-    return this.pointers.containsKey(pointer);
+    return this.supplier(pointer) != null;
   }
 
   @Override
@@ -31,14 +31,34 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnknownNullability;
 
 final class PointersSupplierImpl<T> implements PointersSupplier<T> {
   private final PointersSupplier<? super T> parent;
   private final Map<Pointer<?>, Function<T, ?>> resolvers;
+  // the resolvers of pointers with an id, including those of parents, indexed by that id
+  private final Function<? super T, ?>[] indexed;
+  // whether the resolvers of parents are all indexed, so a missing resolver does not need to be looked up
+  private final boolean indexedParents;
 
+  @SuppressWarnings({"unchecked", "rawtypes"})
   PointersSupplierImpl(final @NotNull BuilderImpl<T> builder) {
     this.parent = builder.parent;
     this.resolvers = new HashMap<>(builder.resolvers);
+    final @Nullable PointersSupplierImpl<? super T> parent = this.parent instanceof PointersSupplierImpl<?> ? (PointersSupplierImpl<? super T>) this.parent : null;
+    int length = parent == null ? 0 : parent.indexed.length;
+    for (final Pointer<?> pointer : this.resolvers.keySet()) {
+      length = Math.max(length, PointersImpl.id(pointer) + 1);
+    }
+    this.indexed = new Function[length];
+    if (parent != null) {
+      System.arraycopy(parent.indexed, 0, this.indexed, 0, parent.indexed.length);
+    }
+    for (final Map.Entry<Pointer<?>, Function<T, ?>> entry : this.resolvers.entrySet()) {
+      final int id = PointersImpl.id(entry.getKey());
+      if (id >= 0 && entry.getValue() != null) this.indexed[id] = entry.getValue();
+    }
+    this.indexedParents = this.parent == null || (parent != null && parent.indexedParents);
   }
 
   @Override
@@ -48,7 +68,9 @@ final class PointersSupplierImpl<T> implements PointersSupplier<T> {
 
   @Override
   public <P> boolean supports(final @NotNull Pointer<P> pointer) {
-    if (this.resolvers.containsKey(Objects.requireNonNull(pointer, "pointer"))) {
+    if (this.indexed(Objects.requireNonNull(pointer, "pointer")) != null) {
+      return true;
+    } else if (this.resolvers.containsKey(pointer)) {
       return true;
     } else if (this.parent == null) {
       return false;
@@ -60,7 +82,11 @@ final class PointersSupplierImpl<T> implements PointersSupplier<T> {
   @Override
   @SuppressWarnings("unchecked") // all values are checked on entry
   public @Nullable <P> Function<? super T, P> resolver(final @NotNull Pointer<P> pointer) {
-    final Function<? super T, ?> resolver = this.resolvers.get(Objects.requireNonNull(pointer, "pointer"));
+    final int id = PointersImpl.id(Objects.requireNonNull(pointer, "pointer"));
+    if (id >= 0 && this.indexedParents) {
+      return (Function<? super T, P>) (id < this.indexed.length ? this.indexed[id] : null);
+    }
+    final Function<? super T, ?> resolver = this.resolvers.get(pointer);
 
     if (resolver != null) {
       return (Function<? super T, P>) resolver;
@@ -71,6 +97,11 @@ final class PointersSupplierImpl<T> implements PointersSupplier<T> {
     }
   }
 
+  private @Nullable Function<? super T, ?> indexed(final @NotNull Pointer<?> pointer) {
+    final int id = PointersImpl.id(pointer);
+    return id >= 0 && id < this.indexed.length ? this.indexed[id] : null;
+  }
+
   static final class ForwardingPointers<U> implements Pointers {
     private final U instance;
     private final PointersSupplierImpl<U> supplier;
@@ -81,23 +112,31 @@ final class PointersSupplierImpl<T> implements PointersSupplier<T> {
     }
 
     @Override
-    @SuppressWarnings("unchecked") // all values are checked on entry
     public @NotNull <T> Optional<T> get(final @NotNull Pointer<T> pointer) {
-      Function<? super U, ?> resolver = this.supplier.resolvers.get(Objects.requireNonNull(pointer, "pointer"));
-
-      // Fallback to the parent.
-      if (resolver == null) {
-        resolver = this.supplier.parent.resolver(pointer);
-      }
-
-      // Finally, wrap in an optional.
+      final Function<? super U, T> resolver = this.supplier.resolver(pointer);
       if (resolver == null) {
         return Optional.empty();
       } else {
-        return Optional.ofNullable((T) resolver.apply(this.instance));
+        return Optional.ofNullable(resolver.apply(this.instance));
       }
     }
 
+    @Override
+    public <T> @Nullable T getOrDefault(final @NotNull Pointer<T> pointer, final @Nullable T defaultValue) {
+      final Function<? super U, T> resolver = this.supplier.resolver(pointer);
+      if (resolver == null) return defaultValue;
+      final T value = resolver.apply(this.instance);
+      return value == null ? defaultValue : value;
+    }
+
+    @Override
+    public <T> @UnknownNullability T getOrDefaultFrom(final @NotNull Pointer<T> pointer, final @NotNull Supplier<? extends T> defaultValue) {
+      final Function<? super U, T> resolver = this.supplier.resolver(pointer);
+      if (resolver == null) return defaultValue.get();
+      final T value = resolver.apply(this.instance);
+      return value == null ? defaultValue.get() : value;
+    }
+
     @Override
     public <T> boolean supports(final @NotNull Pointer<T> pointer) {
       return this.supplier.supports(pointer);
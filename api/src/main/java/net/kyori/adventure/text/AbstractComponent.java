@@ -46,6 +46,10 @@ import org.jetbrains.annotations.Nullable;
 public abstract class AbstractComponent implements Component {
   protected final List<Component> children;
   protected final Style style;
+  // lazy, 0 means not yet computed
+  private int hash;
+  // lazy, see ComponentInternals#containsTranslatable
+  byte translatable = ComponentInternals.UNKNOWN;
 
   protected AbstractComponent(final @NotNull List<? extends ComponentLike> children, final @NotNull Style style) {
     this.children = ComponentLike.asComponents(children, IS_NOT_EMPTY);
@@ -67,12 +71,23 @@ public abstract class AbstractComponent implements Component {
     if (this == other) return true;
     if (!(other instanceof AbstractComponent)) return false;
     final AbstractComponent that = (AbstractComponent) other;
+    // hashes are cached for the whole subtree once computed, so mismatching trees are rejected without a deep walk
+    if (this.hash != 0 && that.hash != 0 && this.hash != that.hash) return false;
     return Objects.equals(this.children, that.children)
       && Objects.equals(this.style, that.style);
   }
 
   @Override
   public int hashCode() {
+    int result = this.hash;
+    if (result == 0) {
+      result = this.hashCode0();
+      this.hash = result;
+    }
+    return result;
+  }
+
+  int hashCode0() {
     int result = this.children.hashCode();
     result = (31 * result) + this.style.hashCode();
     return result;
@@ -131,6 +131,11 @@ public interface BlockNBTComponent extends NBTComponent<BlockNBTComponent, Block
     );
   }
 
+  @Override
+  default <R, C> R accept(final @NotNull ComponentVisitor<R, C> visitor, final C context) {
+    return visitor.visitBlockNBT(this, context);
+  }
+
   /**
    * An NBT component builder.
    *
@@ -107,8 +107,8 @@ final class BlockNBTComponentImpl extends NBTComponentImpl<BlockNBTComponent, Bl
   }
 
   @Override
-  public int hashCode() {
-    int result = super.hashCode();
+  int hashCode0() {
+    int result = super.hashCode0();
     result = (31 * result) + this.pos.hashCode();
     return result;
   }
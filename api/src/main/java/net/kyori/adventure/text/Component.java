@@ -1888,6 +1888,18 @@ public interface Component extends ComponentBuilderApplicable, ComponentLike, Ex
     return translatable(requireNonNull(translatable, "translatable").translationKey(), color, decorations, args);
   }
 
+  /**
+   * Accepts a visitor, calling the method of the visitor for the type of this component.
+   *
+   * @param visitor the visitor
+   * @param context the context to pass to the visitor
+   * @param <R> the result type
+   * @param <C> the context type
+   * @return the result of the visitor
+   * @since 4.18.0
+   */
+  <R, C> R accept(final @NotNull ComponentVisitor<R, C> visitor, final C context);
+
   /**
    * Gets the unmodifiable list of children.
    *
@@ -1996,7 +2008,7 @@ public interface Component extends ComponentBuilderApplicable, ComponentLike, Ex
     requireNonNull(component, "component");
     if (component == Component.empty()) return this;
     final List<Component> oldChildren = this.children();
-    return this.children(MonkeyBars.addOne(oldChildren, component));
+    return this.children(ComponentChildren.append(oldChildren, component));
   }
 
   /**
@@ -2507,7 +2519,10 @@ public interface Component extends ComponentBuilderApplicable, ComponentLike, Ex
    * @since 4.9.0
    */
   default @NotNull Iterator<Component> iterator(final @NotNull ComponentIteratorType type, final @NotNull Set<ComponentIteratorFlag> flags) {
-    return new ComponentIterator(this, requireNonNull(type, "type"), requireNonNull(flags, "flags"));
+    if (requireNonNull(type, "type") == ComponentIteratorType.DEPTH_FIRST) {
+      return Spliterators.iterator(new ComponentSpliterator(this, requireNonNull(flags, "flags")));
+    }
+    return new ComponentIterator(this, type, requireNonNull(flags, "flags"));
   }
 
   /**
@@ -2529,15 +2544,45 @@ public interface Component extends ComponentBuilderApplicable, ComponentLike, Ex
    *
    * <p>The resulting spliterator has the {@link Spliterator#IMMUTABLE}, {@link Spliterator#NONNULL} and {@link Spliterator#ORDERED} characteristics.</p>
    *
+   * <p>A {@link ComponentIteratorType#DEPTH_FIRST depth-first} spliterator splits at subtree boundaries, so
+   * large trees can be processed in parallel.</p>
+   *
    * @param type the type
    * @param flags the flags
    * @return the spliterator
    * @since 4.9.0
    */
   default @NotNull Spliterator<Component> spliterator(final @NotNull ComponentIteratorType type, final @NotNull Set<ComponentIteratorFlag> flags) {
+    if (requireNonNull(type, "type") == ComponentIteratorType.DEPTH_FIRST) {
+      return new ComponentSpliterator(this, requireNonNull(flags, "flags"));
+    }
     return Spliterators.spliteratorUnknownSize(this.iterator(type, flags), Spliterator.IMMUTABLE | Spliterator.NONNULL | Spliterator.ORDERED);
   }
 
+  /**
+   * Returns a cursor visiting this component and the components below it depth-first.
+   *
+   * @param flags the flags
+   * @return the cursor
+   * @see ComponentIteratorType#DEPTH_FIRST
+   * @since 4.18.0
+   */
+  default @NotNull ComponentCursor cursor(final @NotNull ComponentIteratorFlag@Nullable... flags) {
+    return this.cursor(flags == null ? Collections.emptySet() : MonkeyBars.enumSet(ComponentIteratorFlag.class, flags));
+  }
+
+  /**
+   * Returns a cursor visiting this component and the components below it depth-first.
+   *
+   * @param flags the flags
+   * @return the cursor
+   * @see ComponentIteratorType#DEPTH_FIRST
+   * @since 4.18.0
+   */
+  default @NotNull ComponentCursor cursor(final @NotNull Set<ComponentIteratorFlag> flags) {
+    return new ComponentCursorImpl(this, requireNonNull(flags, "flags"));
+  }
+
   /**
    * Finds and replaces text within any {@link Component}s using a string literal.
    *
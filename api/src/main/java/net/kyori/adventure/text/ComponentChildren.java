@@ -0,0 +1,176 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+/**
+ * A persistent, immutable list of child components.
+ *
+ * <p>This is a 32-way bit-partitioned trie with a tail buffer, as popularised by Clojure's
+ * {@code PersistentVector}. Appending shares every full leaf and node with the source list, so
+ * repeatedly appending to an immutable component copies at most one node per trie level
+ * instead of the whole list.</p>
+ *
+ */
+@Unmodifiable
+final class ComponentChildren extends AbstractList<Component> implements RandomAccess {
+  private static final int BITS = 5;
+  private static final int WIDTH = 1 << BITS;
+  private static final int MASK = WIDTH - 1;
+  private static final Object[] EMPTY_NODE = new Object[WIDTH];
+  private static final Object[] EMPTY_TAIL = new Object[0];
+
+  private final int size;
+  private final int shift;
+  // internal nodes and leaves are always full-width arrays, the trie holds (size - tail.length) elements
+  private final Object[] root;
+  // the trailing 1..32 elements, not yet pushed into the trie
+  private final Object[] tail;
+  // whether any element is Component.empty(), letting the common filter skip a copy
+  private final boolean containsEmpty;
+
+  private ComponentChildren(final int size, final int shift, final Object[] root, final Object[] tail, final boolean containsEmpty) {
+    this.size = size;
+    this.shift = shift;
+    this.root = root;
+    this.tail = tail;
+    this.containsEmpty = containsEmpty;
+  }
+
+  /**
+   * Creates a list holding {@code components}.
+   *
+   * @param components the components
+   * @param size the number of leading elements of {@code components} to use
+   * @return a list
+   */
+  static @Unmodifiable @NotNull List<Component> of(final Object @NotNull [] components, final int size) {
+    if (size == 0) return Collections.emptyList();
+    boolean containsEmpty = false;
+    for (int i = 0; i < size; i++) {
+      if (components[i] == Component.empty()) {
+        containsEmpty = true;
+        break;
+      }
+    }
+    ComponentChildren list = new ComponentChildren(0, BITS, EMPTY_NODE, EMPTY_TAIL, containsEmpty);
+    int index = 0;
+    while (size - index > WIDTH) {
+      list = list.pushLeaf(Arrays.copyOfRange(components, index, index + WIDTH), EMPTY_TAIL, index + WIDTH, containsEmpty);
+      index += WIDTH;
+    }
+    return new ComponentChildren(size, list.shift, list.root, Arrays.copyOfRange(components, index, size), containsEmpty);
+  }
+
+  /**
+   * Appends a component to {@code children}, sharing structure with it where possible.
+   *
+   * @param children the existing children
+   * @param component the component to append
+   * @return a list
+   */
+  static @Unmodifiable @NotNull List<Component> append(final @NotNull List<Component> children, final @NotNull Component component) {
+    if (children instanceof ComponentChildren) {
+      return ((ComponentChildren) children).append(component);
+    }
+    final int size = children.size();
+    final Object[] components = children.toArray(new Object[size + 1]);
+    components[size] = component;
+    return of(components, size + 1);
+  }
+
+  private @NotNull ComponentChildren append(final @NotNull Component component) {
+    final int tailLength = this.tail.length;
+    if (tailLength < WIDTH) {
+      final Object[] tail = Arrays.copyOf(this.tail, tailLength + 1);
+      tail[tailLength] = component;
+      return new ComponentChildren(this.size + 1, this.shift, this.root, tail, this.containsEmpty || component == Component.empty());
+    }
+    // the tail is full, push it into the trie as a new leaf
+    return this.pushLeaf(this.tail, new Object[]{component}, this.size + 1, this.containsEmpty || component == Component.empty());
+  }
+
+  private @NotNull ComponentChildren pushLeaf(final Object @NotNull [] leaf, final Object @NotNull [] tail, final int size, final boolean containsEmpty) {
+    final int trieSize = this.size - this.tail.length;
+    if (trieSize + WIDTH > (1 << (this.shift + BITS))) {
+      // the trie is full at this depth, grow a new root level
+      final Object[] root = new Object[WIDTH];
+      root[0] = this.root;
+      root[1] = newPath(this.shift, leaf);
+      return new ComponentChildren(size, this.shift + BITS, root, tail, containsEmpty);
+    }
+    return new ComponentChildren(size, this.shift, pushLeaf(this.shift, this.root, leaf, trieSize), tail, containsEmpty);
+  }
+
+  private static Object @NotNull [] pushLeaf(final int level, final Object @NotNull [] parent, final Object @NotNull [] leaf, final int index) {
+    final Object[] node = parent.clone();
+    final int slot = (index >>> level) & MASK;
+    if (level == BITS) {
+      node[slot] = leaf;
+    } else {
+      final Object[] child = (Object[]) parent[slot];
+      node[slot] = child != null ? pushLeaf(level - BITS, child, leaf, index) : newPath(level - BITS, leaf);
+    }
+    return node;
+  }
+
+  private static Object @NotNull [] newPath(final int level, final Object @NotNull [] leaf) {
+    if (level == 0) return leaf;
+    final Object[] node = new Object[WIDTH];
+    node[0] = newPath(level - BITS, leaf);
+    return node;
+  }
+
+  boolean containsEmpty() {
+    return this.containsEmpty;
+  }
+
+  @Override
+  public Component get(final int index) {
+    if (index < 0 || index >= this.size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+    }
+    final int tailOffset = this.size - this.tail.length;
+    if (index >= tailOffset) {
+      return (Component) this.tail[index - tailOffset];
+    }
+    Object[] node = this.root;
+    for (int level = this.shift; level > 0; level -= BITS) {
+      node = (Object[]) node[(index >>> level) & MASK];
+    }
+    return (Component) node[index & MASK];
+  }
+
+  @Override
+  public int size() {
+    return this.size;
+  }
+}
@@ -23,10 +23,11 @@
  */
 package net.kyori.adventure.text;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
-import java.util.Objects;
 import net.kyori.adventure.text.format.Style;
 import net.kyori.adventure.text.format.TextDecoration;
 import org.jetbrains.annotations.NotNull;
@@ -41,118 +42,190 @@ final class ComponentCompaction {
   }
 
   static Component compact(final @NotNull Component self, final @Nullable Style parentStyle) {
-    final List<Component> children = self.children();
-    Component optimized = self.children(Collections.emptyList());
-    if (parentStyle != null) {
-      optimized = optimized.style(self.style().unmerge(parentStyle));
+    // depth-first, using an explicit stack of partially compacted parents instead of recursion
+    final Deque<Frame> stack = new ArrayDeque<>();
+    @Nullable Component result = enter(self, parentStyle, stack);
+    while (!stack.isEmpty()) {
+      final Frame frame = stack.peek();
+      if (result != null) {
+        frame.accept(result);
+      }
+      if (frame.index < frame.children.size()) {
+        result = enter(frame.children.get(frame.index++), frame.childParentStyle, stack);
+      } else {
+        stack.pop();
+        result = frame.finish();
+      }
     }
+    return result;
+  }
 
-    final int childrenSize = children.size();
-
-    if (childrenSize == 0) {
-      // no children, style can be further simplified if self is blank
-      if (isBlank(optimized)) {
-        optimized = optimized.style(simplifyStyleForBlank(optimized.style(), parentStyle));
+  /**
+   * Starts compacting a component.
+   *
+   * @param self the component
+   * @param selfParentStyle the effective style of the parent, if any
+   * @param stack the stack to push a frame to if {@code self} has children to compact
+   * @return the compacted component if it has no children, or {@code null} if a frame was pushed
+   */
+  private static @Nullable Component enter(final @NotNull Component self, final @Nullable Style selfParentStyle, final @NotNull Deque<Frame> stack) {
+    Component component = self;
+    Style parentStyle = selfParentStyle;
+    while (true) {
+      final List<Component> children = component.children();
+      Style style = component.style();
+      if (parentStyle != null) {
+        style = style.unmerge(parentStyle);
       }
 
-      // leaf nodes do not need to be further optimized - there is no point
-      return optimized;
-    }
+      if (children.isEmpty()) {
+        // no children, style can be further simplified if self is blank
+        if (isBlank(component)) {
+          style = simplifyStyleForBlank(style, parentStyle);
+        }
 
-    // if there is only one child, check if self a useless empty component
-    if (childrenSize == 1 && optimized instanceof TextComponent) {
-      final TextComponent textComponent = (TextComponent) optimized;
+        // leaf nodes do not need to be further optimized - there is no point
+        return style == component.style() ? component : component.style(style);
+      }
 
-      if (textComponent.content().isEmpty()) {
+      // if there is only one child, check if self a useless empty component
+      if (children.size() == 1 && component instanceof TextComponent && ((TextComponent) component).content().isEmpty()) {
         final Component child = children.get(0);
 
-        // merge the updated/parent style into the child before we return
-        return child.style(child.style().merge(optimized.style(), Style.Merge.Strategy.IF_ABSENT_ON_TARGET)).compact();
+        // merge the updated/parent style into the child, and compact that instead
+        component = child.style(child.style().merge(style, Style.Merge.Strategy.IF_ABSENT_ON_TARGET));
+        parentStyle = null;
+        continue;
       }
-    }
 
-    // propagate the parent style context to children
-    // by merging the parent's style into this component
-    Style childParentStyle = optimized.style();
-    if (parentStyle != null) {
-      childParentStyle = childParentStyle.merge(parentStyle, Style.Merge.Strategy.IF_ABSENT_ON_TARGET);
+      // propagate the parent style context to children
+      // by merging the parent's style into this component
+      final Style childParentStyle = parentStyle == null ? style : style.merge(parentStyle, Style.Merge.Strategy.IF_ABSENT_ON_TARGET);
+      stack.push(new Frame(component, parentStyle, style, childParentStyle, children));
+      return null;
     }
+  }
 
-    // optimize all children
-    final List<Component> childrenToAppend = new ArrayList<>(children.size());
-    for (int i = 0; i < children.size(); ++i) {
-      Component child = children.get(i);
-
-      // compact child recursively
-      child = compact(child, childParentStyle);
+  /**
+   * A component whose children are being compacted.
+   *
+   * <p>Compacted children are merged as they arrive: leading children with the same effective style are
+   * absorbed into the parent's content, and runs of neighbouring children with the same effective style
+   * are collected into a single buffer, so every merged node is only built once.</p>
+   */
+  private static final class Frame {
+    final Component self;
+    final @Nullable Style parentStyle;
+    final Style style;
+    final Style childParentStyle;
+    final List<Component> children;
+    int index;
+
+    private final List<Component> output;
+    // whether compacted children may still be merged into the content of this component
+    private boolean absorbing;
+    private @Nullable StringBuilder content;
+    // the head of the current run of mergeable text children, not yet added to the output
+    private @Nullable TextComponent runHead;
+    private @Nullable Style runStyle;
+    private @Nullable StringBuilder runContent;
+
+    Frame(final @NotNull Component self, final @Nullable Style parentStyle, final @NotNull Style style, final @NotNull Style childParentStyle, final @NotNull List<Component> children) {
+      this.self = self;
+      this.parentStyle = parentStyle;
+      this.style = style;
+      this.childParentStyle = childParentStyle;
+      this.children = children;
+      this.output = new ArrayList<>(children.size());
+      this.absorbing = self instanceof TextComponent;
+    }
 
+    void accept(final @NotNull Component child) {
       // ignore useless empty children (regardless of its style)
-      if (child.children().isEmpty() && child instanceof TextComponent) {
-        final TextComponent textComponent = (TextComponent) child;
-
-        if (textComponent.content().isEmpty()) {
-          continue;
-        }
+      if (child.children().isEmpty() && child instanceof TextComponent && ((TextComponent) child).content().isEmpty()) {
+        return;
       }
-
-      childrenToAppend.add(child);
+      this.append(child);
     }
 
-    // try to merge children into this parent component
-    if (optimized instanceof TextComponent) {
-      while (!childrenToAppend.isEmpty()) {
-        final Component child = childrenToAppend.get(0);
-        final Style childStyle = child.style().merge(childParentStyle, Style.Merge.Strategy.IF_ABSENT_ON_TARGET);
+    private void append(final @NotNull Component child) {
+      final boolean text = child instanceof TextComponent;
+      // calculate the child's style in context of the parent style
+      final @Nullable Style childStyle = text ? child.style().merge(this.childParentStyle, Style.Merge.Strategy.IF_ABSENT_ON_TARGET) : null;
 
-        if (child instanceof TextComponent && Objects.equals(childStyle, childParentStyle)) {
+      if (this.absorbing) {
+        if (text && this.childParentStyle.equals(childStyle)) {
           // merge child components into the parent if they are a text component with the same effective style
-          // in context of their parent style
-          optimized = joinText((TextComponent) optimized, (TextComponent) child);
-          childrenToAppend.remove(0);
-
-          // if the merged child had any children, retain them
-          childrenToAppend.addAll(0, child.children());
-        } else {
-          // this child can't be merged into the parent, so all children from now on must remain children
-          break;
+          // in context of their parent style, retaining any children the merged child had
+          this.content().append(((TextComponent) child).content());
+          for (final Component grandchild : child.children()) {
+            this.append(grandchild);
+          }
+          return;
         }
+        // this child can't be merged into the parent, so all children from now on must remain children
+        this.absorbing = false;
+      }
+
+      final TextComponent runHead = this.runHead;
+      if (runHead != null) {
+        if (text && childStyle.equals(this.runStyle)) {
+          StringBuilder runContent = this.runContent;
+          if (runContent == null) {
+            runContent = this.runContent = new StringBuilder(runHead.content());
+          }
+          runContent.append(((TextComponent) child).content());
+          if (!child.children().isEmpty()) {
+            // the merged child keeps its children, so nothing further can be joined onto it
+            this.output.add(TextComponentImpl.create(child.children(), runHead.style(), runContent.toString()));
+            this.runHead = null;
+          }
+          return;
+        }
+        this.flushRun();
       }
-    }
 
-    // try to concatenate any further children with their neighbor
-    // until no further joining is possible
-    for (int i = 0; i + 1 < childrenToAppend.size();) {
-      final Component child = childrenToAppend.get(i);
-      final Component neighbor = childrenToAppend.get(i + 1);
+      if (text && child.children().isEmpty()) {
+        this.runHead = (TextComponent) child;
+        this.runStyle = childStyle;
+        this.runContent = null;
+      } else {
+        this.output.add(child);
+      }
+    }
 
-      if (child.children().isEmpty() && child instanceof TextComponent && neighbor instanceof TextComponent) {
-        // calculate the children's styles in context of their parent style
-        final Style childStyle = child.style().merge(childParentStyle, Style.Merge.Strategy.IF_ABSENT_ON_TARGET);
-        final Style neighborStyle = neighbor.style().merge(childParentStyle, Style.Merge.Strategy.IF_ABSENT_ON_TARGET);
+    private @NotNull StringBuilder content() {
+      if (this.content == null) {
+        this.content = new StringBuilder(((TextComponent) this.self).content());
+      }
+      return this.content;
+    }
 
-        // check if styles are equivalent
-        if (childStyle.equals(neighborStyle)) {
-          final Component combined = joinText((TextComponent) child, (TextComponent) neighbor);
+    private void flushRun() {
+      final TextComponent runHead = this.runHead;
+      if (runHead != null) {
+        final StringBuilder runContent = this.runContent;
+        this.output.add(runContent == null ? runHead : TextComponentImpl.create(Collections.emptyList(), runHead.style(), runContent.toString()));
+        this.runHead = null;
+      }
+    }
 
-          // replace the child and its neighbor with the single, combined component
-          childrenToAppend.set(i, combined);
-          childrenToAppend.remove(i + 1);
+    @NotNull Component finish() {
+      this.flushRun();
 
-          // don't increment the index -
-          // we want to try and optimize this combined component even further
-          continue;
+      if (this.self instanceof TextComponent) {
+        final String content = this.content == null ? ((TextComponent) this.self).content() : this.content.toString();
+        Style style = this.style;
+        // no children, style can be further simplified if self is blank
+        if (this.output.isEmpty() && isBlank(content)) {
+          style = simplifyStyleForBlank(style, this.parentStyle);
         }
+        return TextComponentImpl.create(this.output, style, content);
       }
 
-      i++;
+      final Component styled = this.style == this.self.style() ? this.self : this.self.style(this.style);
+      return styled.children(this.output);
     }
-
-    // no children, style can be further simplified if self is blank
-    if (childrenToAppend.isEmpty() && isBlank(optimized)) {
-      optimized = optimized.style(simplifyStyleForBlank(optimized.style(), parentStyle));
-    }
-
-    return optimized.children(childrenToAppend);
   }
 
   /**
@@ -163,20 +236,20 @@ final class ComponentCompaction {
   */
   private static boolean isBlank(final Component component) {
     if (component instanceof TextComponent) {
-      final TextComponent textComponent = (TextComponent) component;
-
-      final String content = textComponent.content();
-
-      for (int i = 0; i < content.length(); i++) {
-        final char c = content.charAt(i);
-        if (c != ' ') return false;
-      }
-
-      return true;
+      return isBlank(((TextComponent) component).content());
     }
     return false;
   }
 
+  private static boolean isBlank(final String content) {
+    for (int i = 0; i < content.length(); i++) {
+      final char c = content.charAt(i);
+      if (c != ' ') return false;
+    }
+
+    return true;
+  }
+
   /**
   * Simplify the provided style to remove any information that is redundant,
   * given that the content is blank.
@@ -212,7 +285,4 @@ final class ComponentCompaction {
     return builder.build();
   }
 
-  private static TextComponent joinText(final TextComponent one, final TextComponent two) {
-    return TextComponentImpl.create(two.children(), one.style(), one.content() + two.content());
-  }
 }
@@ -0,0 +1,89 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text;
+
+import java.util.Set;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A cursor over a tree of components, visiting each component depth-first.
+ *
+ * <p>Components are visited in the same order as a {@link ComponentIteratorType#DEPTH_FIRST depth-first} iterator.
+ * Instead of queueing components to visit, a cursor keeps the path to the current component and an index into
+ * each component on that path, so advancing it does not allocate. A cursor can be {@link #reset(Component) reset}
+ * to traverse another tree, reusing that state.</p>
+ *
+ * @see Component#cursor(Set)
+ * @since 4.18.0
+ */
+@ApiStatus.NonExtendable
+public interface ComponentCursor {
+  /**
+   * Advances this cursor to the next component.
+   *
+   * <p>The first call moves the cursor to the root component.</p>
+   *
+   * @return {@code true} if the cursor is on a component, {@code false} if all components have been visited
+   * @since 4.18.0
+   */
+  boolean advance();
+
+  /**
+   * Gets the component this cursor is on.
+   *
+   * @return the current component
+   * @throws IllegalStateException if the cursor is not on a component
+   * @since 4.18.0
+   */
+  @NotNull Component component();
+
+  /**
+   * Gets the depth of the component this cursor is on, where the root component has a depth of {@code 0}.
+   *
+   * @return the depth of the current component
+   * @throws IllegalStateException if the cursor is not on a component
+   * @since 4.18.0
+   */
+  int depth();
+
+  /**
+   * Skips the children of the current component, so the next {@link #advance() advance} moves past them.
+   *
+   * <p>Hover event contents and translation arguments included by the cursor's flags are skipped as well.</p>
+   *
+   * @throws IllegalStateException if the cursor is not on a component
+   * @since 4.18.0
+   */
+  void skipChildren();
+
+  /**
+   * Resets this cursor to traverse another tree, keeping its flags.
+   *
+   * @param root the root component of the tree
+   * @return this cursor
+   * @since 4.18.0
+   */
+  @NotNull ComponentCursor reset(final @NotNull Component root);
+}
@@ -0,0 +1,165 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import net.kyori.adventure.text.event.HoverEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+final class ComponentCursorImpl implements ComponentCursor {
+  private final boolean arguments;
+  private final boolean hoverEntityName;
+  private final boolean hoverText;
+  private @Nullable Component root;
+  // the path to the current component, and the index of the next slot to visit in each component on that path
+  private Component[] path = new Component[16];
+  private int[] indices = new int[16];
+  private int depth = -1;
+
+  ComponentCursorImpl(final @NotNull Component root, final @NotNull Set<ComponentIteratorFlag> flags) {
+    this.root = root;
+    this.arguments = flags.contains(ComponentIteratorFlag.INCLUDE_TRANSLATABLE_COMPONENT_ARGUMENTS);
+    this.hoverEntityName = flags.contains(ComponentIteratorFlag.INCLUDE_HOVER_SHOW_ENTITY_NAME);
+    this.hoverText = flags.contains(ComponentIteratorFlag.INCLUDE_HOVER_SHOW_TEXT_COMPONENT);
+  }
+
+  @Override
+  public boolean advance() {
+    final @Nullable Component root = this.root;
+    if (root != null) {
+      this.root = null;
+      this.path[0] = root;
+      this.indices[0] = 0;
+      this.depth = 0;
+      return true;
+    }
+
+    int depth = this.depth;
+    while (depth >= 0) {
+      final Component parent = this.path[depth];
+      final int index = this.indices[depth];
+      final @Nullable Component next = index < 0 ? null : this.slot(parent, index);
+      if (next != null) {
+        this.indices[depth] = index + 1;
+        this.push(depth + 1, next);
+        return true;
+      }
+      this.path[depth--] = null;
+    }
+    this.depth = -1;
+    return false;
+  }
+
+  private void push(final int depth, final Component component) {
+    if (depth == this.path.length) {
+      this.path = Arrays.copyOf(this.path, depth << 1);
+      this.indices = Arrays.copyOf(this.indices, depth << 1);
+    }
+    this.path[depth] = component;
+    this.indices[depth] = 0;
+    this.depth = depth;
+  }
+
+  @Override
+  public @NotNull Component component() {
+    this.checkPositioned();
+    return this.path[this.depth];
+  }
+
+  @Override
+  public int depth() {
+    this.checkPositioned();
+    return this.depth;
+  }
+
+  @Override
+  public void skipChildren() {
+    this.checkPositioned();
+    this.indices[this.depth] = -1;
+  }
+
+  private void checkPositioned() {
+    if (this.depth < 0) throw new IllegalStateException("The cursor is not on a component");
+  }
+
+  @Override
+  public @NotNull ComponentCursor reset(final @NotNull Component root) {
+    this.root = requireNonNull(root, "root");
+    Arrays.fill(this.path, 0, this.depth + 1, null);
+    this.depth = -1;
+    return this;
+  }
+
+  /**
+   * Gets the component at an index in the sequence of components directly below a component.
+   *
+   * <p>This sequence matches the order of {@link ComponentIteratorType#DEPTH_FIRST}: children,
+   * then hover event contents, then translation arguments.</p>
+   *
+   * @param component the component
+   * @param index the index
+   * @return the component at the index, or {@code null} if the index is past the end of the sequence
+   */
+  @Nullable Component slot(final @NotNull Component component, int index) {
+    final List<Component> children = component.children();
+    if (index < children.size()) {
+      return children.get(index);
+    }
+    index -= children.size();
+
+    final @Nullable Component hover = this.hover(component);
+    if (hover != null) {
+      if (index == 0) return hover;
+      index--;
+    }
+
+    if (this.arguments && component instanceof TranslatableComponent) {
+      final List<TranslationArgument> arguments = ((TranslatableComponent) component).arguments();
+      if (index < arguments.size()) {
+        return arguments.get(index).asComponent();
+      }
+    }
+    return null;
+  }
+
+  private @Nullable Component hover(final @NotNull Component component) {
+    if (!this.hoverEntityName && !this.hoverText) return null;
+
+    final @Nullable HoverEvent<?> hoverEvent = component.hoverEvent();
+    if (hoverEvent != null) {
+      final HoverEvent.Action<?> action = hoverEvent.action();
+      if (this.hoverEntityName && action == HoverEvent.Action.SHOW_ENTITY) {
+        return ((HoverEvent.ShowEntity) hoverEvent.value()).name();
+      } else if (this.hoverText && action == HoverEvent.Action.SHOW_TEXT) {
+        return (Component) hoverEvent.value();
+      }
+    }
+    return null;
+  }
+}
@@ -23,9 +23,113 @@
  */
 package net.kyori.adventure.text;
 
-final class ComponentInternals {
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import net.kyori.adventure.text.event.HoverEvent;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Component utilities internal to Adventure.
+ *
+ * @since 4.18.0
+ */
+@ApiStatus.Internal
+public final class ComponentInternals {
   static final String CHILDREN_PROPERTY = "children";
 
+  static final byte UNKNOWN = 0;
+  static final byte ABSENT = 1;
+  static final byte PRESENT = 2;
+
   private ComponentInternals() {
   }
+
+  /**
+   * Gets whether a component, or anything nested within it, is a {@link TranslatableComponent}.
+   *
+   * <p>Children, separators and the components of hover events are searched. The result is cached on every component
+   * visited, so only the first search of a tree walks it. Components implemented outside of Adventure are assumed to
+   * contain translatable components.</p>
+   *
+   * @param component the component
+   * @return {@code true} if the component may contain a translatable component, {@code false} if it does not
+   * @since 4.18.0
+   */
+  @SuppressWarnings("deprecation") // AbstractComponent
+  public static boolean containsTranslatable(final @NotNull Component component) {
+    if (!(component instanceof AbstractComponent)) return true;
+    final AbstractComponent root = (AbstractComponent) component;
+    if (root.translatable == UNKNOWN) {
+      resolveTranslatable(root);
+    }
+    return root.translatable == PRESENT;
+  }
+
+  // Resolves the flag of every unresolved component in the tree, without recursion, nested components before the components containing them
+  @SuppressWarnings("deprecation") // AbstractComponent
+  private static void resolveTranslatable(final AbstractComponent root) {
+    final Deque<AbstractComponent> stack = new ArrayDeque<>();
+    final Deque<AbstractComponent> resolve = new ArrayDeque<>();
+    final List<Component> nested = new ArrayList<>();
+    stack.push(root);
+    while (!stack.isEmpty()) {
+      final AbstractComponent component = stack.pop();
+      if (component.translatable != UNKNOWN) continue;
+      resolve.push(component);
+      if (component instanceof TranslatableComponent) continue;
+      nested(component, nested);
+      for (int i = 0, size = nested.size(); i < size; i++) {
+        final Component child = nested.get(i);
+        if (child instanceof AbstractComponent && ((AbstractComponent) child).translatable == UNKNOWN) {
+          stack.push((AbstractComponent) child);
+        }
+      }
+      nested.clear();
+    }
+    while (!resolve.isEmpty()) {
+      final AbstractComponent component = resolve.pop();
+      if (component.translatable != UNKNOWN) continue;
+      byte translatable = ABSENT;
+      if (component instanceof TranslatableComponent) {
+        translatable = PRESENT;
+      } else {
+        nested(component, nested);
+        for (int i = 0, size = nested.size(); i < size; i++) {
+          if (containsTranslatable(nested.get(i))) {
+            translatable = PRESENT;
+            break;
+          }
+        }
+        nested.clear();
+      }
+      component.translatable = translatable;
+    }
+  }
+
+  private static void nested(final Component component, final List<Component> nested) {
+    nested.addAll(component.children());
+    final @Nullable HoverEvent<?> hoverEvent = component.hoverEvent();
+    if (hoverEvent != null) {
+      final Object value = hoverEvent.value();
+      if (value instanceof Component) {
+        nested.add((Component) value);
+      } else if (value instanceof HoverEvent.ShowEntity) {
+        final @Nullable Component name = ((HoverEvent.ShowEntity) value).name();
+        if (name != null) nested.add(name);
+      }
+    }
+    final @Nullable Component separator;
+    if (component instanceof SelectorComponent) {
+      separator = ((SelectorComponent) component).separator();
+    } else if (component instanceof NBTComponent<?, ?>) {
+      separator = ((NBTComponent<?, ?>) component).separator();
+    } else {
+      separator = null;
+    }
+    if (separator != null) nested.add(separator);
+  }
 }
@@ -23,7 +23,6 @@
  */
 package net.kyori.adventure.text;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
@@ -63,13 +62,20 @@ public interface ComponentLike {
    */
   static @NotNull List<Component> asComponents(final @NotNull List<? extends ComponentLike> likes, final @Nullable Predicate<? super Component> filter) {
     requireNonNull(likes, "likes");
+    if (likes instanceof ComponentChildren && (filter == null || (filter == Component.IS_NOT_EMPTY && !((ComponentChildren) likes).containsEmpty()))) {
+      // already immutable, and nothing would be filtered out
+      @SuppressWarnings("unchecked")
+      final List<Component> children = (List<Component>) likes;
+      return children;
+    }
     final int size = likes.size();
     if (size == 0) {
       // We do not need to create a new list if the one we are copying is empty - we can
       // simply just return our known-empty list instead.
       return Collections.emptyList();
     }
-    @Nullable ArrayList<Component> components = null;
+    Object @Nullable [] components = null;
+    int count = 0;
     for (int i = 0; i < size; i++) {
       final @Nullable ComponentLike like = likes.get(i);
       if (like == null) {
@@ -78,17 +84,14 @@ public interface ComponentLike {
       final Component component = like.asComponent();
       if (filter == null || filter.test(component)) {
         if (components == null) {
-          components = new ArrayList<>(size);
+          components = new Object[size];
         }
-        components.add(component);
+        components[count++] = component;
       }
     }
     // if we filtered all elements out, just use an empty list instead
     if (components == null) return Collections.emptyList();
-    // https://github.com/KyoriPowered/adventure/pull/327#discussion_r631420264
-    // we pre-size the list, but filtering might make the actual size much smaller
-    components.trimToSize();
-    return Collections.unmodifiableList(components);
+    return ComponentChildren.of(components, count);
   }
 
   /**
@@ -0,0 +1,151 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+// A depth-first spliterator that splits at subtree boundaries
+final class ComponentSpliterator implements Spliterator<Component> {
+  private static final Component[] NO_COMPONENTS = new Component[0];
+  private static final int CHARACTERISTICS = Spliterator.IMMUTABLE | Spliterator.NONNULL | Spliterator.ORDERED;
+
+  private final Set<ComponentIteratorFlag> flags;
+  // a component to visit without its subtree, before anything else
+  private @Nullable Component head;
+  // the subtree being visited, if any
+  private @Nullable ComponentCursorImpl cursor;
+  private boolean visiting;
+  // subtrees not yet visited, in order
+  private Component[] pending;
+  private int from;
+  private int to;
+
+  ComponentSpliterator(final @NotNull Component root, final @NotNull Set<ComponentIteratorFlag> flags) {
+    this(flags, null, null, false, new Component[] {root}, 0, 1);
+  }
+
+  private ComponentSpliterator(final Set<ComponentIteratorFlag> flags, final @Nullable Component head, final @Nullable ComponentCursorImpl cursor, final boolean visiting, final Component[] pending, final int from, final int to) {
+    this.flags = flags;
+    this.head = head;
+    this.cursor = cursor;
+    this.visiting = visiting;
+    this.pending = pending;
+    this.from = from;
+    this.to = to;
+  }
+
+  @Override
+  public boolean tryAdvance(final @NotNull Consumer<? super Component> action) {
+    final @Nullable Component head = this.head;
+    if (head != null) {
+      this.head = null;
+      action.accept(head);
+      return true;
+    }
+
+    while (true) {
+      if (this.visiting) {
+        final ComponentCursorImpl cursor = this.cursor;
+        if (cursor.advance()) {
+          action.accept(cursor.component());
+          return true;
+        }
+        this.visiting = false;
+      }
+
+      if (this.from == this.to) return false;
+      final Component next = this.pending[this.from];
+      this.pending[this.from++] = null;
+      if (this.cursor == null) {
+        this.cursor = new ComponentCursorImpl(next, this.flags);
+      } else {
+        this.cursor.reset(next);
+      }
+      this.visiting = true;
+    }
+  }
+
+  @Override
+  public @Nullable Spliterator<Component> trySplit() {
+    final int remaining = this.to - this.from;
+    if (remaining >= 2 || (remaining == 1 && (this.head != null || this.visiting))) {
+      // hand everything up to the middle of the pending subtrees off to the prefix
+      final int middle = this.from + remaining / 2;
+      final ComponentSpliterator prefix = new ComponentSpliterator(this.flags, this.head, this.visiting ? this.cursor : null, this.visiting, this.pending, this.from, middle);
+      this.head = null;
+      if (this.visiting) {
+        this.cursor = null;
+        this.visiting = false;
+      }
+      this.from = middle;
+      return prefix;
+    }
+
+    if (remaining == 1 && this.head == null && !this.visiting) {
+      // split a single subtree into its root, which the prefix visits, and the subtrees directly below it
+      final Component root = this.pending[this.from];
+      final Component[] slots = this.slots(root);
+      if (slots.length == 0) return null;
+      final ComponentSpliterator prefix = new ComponentSpliterator(this.flags, root, null, false, NO_COMPONENTS, 0, 0);
+      this.pending = slots;
+      this.from = 0;
+      this.to = slots.length;
+      return prefix;
+    }
+
+    return null;
+  }
+
+  private Component[] slots(final Component root) {
+    if (this.cursor == null) {
+      this.cursor = new ComponentCursorImpl(root, this.flags);
+    }
+    Component[] slots = new Component[root.children().size() + 1];
+    int size = 0;
+    Component slot;
+    while ((slot = this.cursor.slot(root, size)) != null) {
+      if (size == slots.length) {
+        slots = Arrays.copyOf(slots, size << 1);
+      }
+      slots[size++] = slot;
+    }
+    return size == slots.length ? slots : Arrays.copyOf(slots, size);
+  }
+
+  @Override
+  public long estimateSize() {
+    // the size of a subtree is not known without visiting it
+    return this.head == null && !this.visiting && this.from == this.to ? 0 : Long.MAX_VALUE;
+  }
+
+  @Override
+  public int characteristics() {
+    return CHARACTERISTICS;
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A visitor of components, with a method for each type of component.
+ *
+ * <p>A visitor is invoked through {@link Component#accept(ComponentVisitor, Object)}, which calls the
+ * method for the type of the component, avoiding {@code instanceof} checks or lookups by class.</p>
+ *
+ * <p>Children of visited components are not visited automatically.</p>
+ *
+ * @param <R> the result type
+ * @param <C> the context type
+ * @since 4.18.0
+ */
+public interface ComponentVisitor<R, C> {
+  /**
+   * Visits a text component.
+   *
+   * @param component the component
+   * @param context the context
+   * @return the result
+   * @since 4.18.0
+   */
+  R visitText(final @NotNull TextComponent component, final C context);
+
+  /**
+   * Visits a translatable component.
+   *
+   * @param component the component
+   * @param context the context
+   * @return the result
+   * @since 4.18.0
+   */
+  R visitTranslatable(final @NotNull TranslatableComponent component, final C context);
+
+  /**
+   * Visits a keybind component.
+   *
+   * @param component the component
+   * @param context the context
+   * @return the result
+   * @since 4.18.0
+   */
+  R visitKeybind(final @NotNull KeybindComponent component, final C context);
+
+  /**
+   * Visits a score component.
+   *
+   * @param component the component
+   * @param context the context
+   * @return the result
+   * @since 4.18.0
+   */
+  R visitScore(final @NotNull ScoreComponent component, final C context);
+
+  /**
+   * Visits a selector component.
+   *
+   * @param component the component
+   * @param context the context
+   * @return the result
+   * @since 4.18.0
+   */
+  R visitSelector(final @NotNull SelectorComponent component, final C context);
+
+  /**
+   * Visits a block NBT component.
+   *
+   * @param component the component
+   * @param context the context
+   * @return the result
+   * @since 4.18.0
+   */
+  R visitBlockNBT(final @NotNull BlockNBTComponent component, final C context);
+
+  /**
+   * Visits an entity NBT component.
+   *
+   * @param component the component
+   * @param context the context
+   * @return the result
+   * @since 4.18.0
+   */
+  R visitEntityNBT(final @NotNull EntityNBTComponent component, final C context);
+
+  /**
+   * Visits a storage NBT component.
+   *
+   * @param component the component
+   * @param context the context
+   * @return the result
+   * @since 4.18.0
+   */
+  R visitStorageNBT(final @NotNull StorageNBTComponent component, final C context);
+}
@@ -72,6 +72,11 @@ public interface EntityNBTComponent extends NBTComponent<EntityNBTComponent, Ent
     );
   }
 
+  @Override
+  default <R, C> R accept(final @NotNull ComponentVisitor<R, C> visitor, final C context) {
+    return visitor.visitEntityNBT(this, context);
+  }
+
   /**
    * An entity NBT component builder.
    *
@@ -104,8 +104,8 @@ final class EntityNBTComponentImpl extends NBTComponentImpl<EntityNBTComponent,
   }
 
   @Override
-  public int hashCode() {
-    int result = super.hashCode();
+  int hashCode0() {
+    int result = super.hashCode0();
     result = (31 * result) + this.selector.hashCode();
     return result;
   }
@@ -97,6 +97,11 @@ public interface KeybindComponent extends BuildableComponent<KeybindComponent, K
     @NotNull String asKeybind();
   }
 
+  @Override
+  default <R, C> R accept(final @NotNull ComponentVisitor<R, C> visitor, final C context) {
+    return visitor.visitKeybind(this, context);
+  }
+
   /**
    * A keybind component builder.
    *
@@ -79,8 +79,8 @@ final class KeybindComponentImpl extends AbstractComponent implements KeybindCom
   }
 
   @Override
-  public int hashCode() {
-    int result = super.hashCode();
+  int hashCode0() {
+    int result = super.hashCode0();
     result = (31 * result) + this.keybind.hashCode();
     return result;
   }
@@ -62,8 +62,8 @@ abstract class NBTComponentImpl<C extends NBTComponent<C, B>, B extends NBTCompo
   }
 
   @Override
-  public int hashCode() {
-    int result = super.hashCode();
+  int hashCode0() {
+    int result = super.hashCode0();
     result = (31 * result) + this.nbtPath.hashCode();
     result = (31 * result) + Boolean.hashCode(this.interpret);
     result = (31 * result) + Objects.hashCode(this.separator);
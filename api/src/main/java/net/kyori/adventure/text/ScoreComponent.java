@@ -122,6 +122,11 @@ public interface ScoreComponent extends BuildableComponent<ScoreComponent, Score
     );
   }
 
+  @Override
+  default <R, C> R accept(final @NotNull ComponentVisitor<R, C> visitor, final C context) {
+    return visitor.visitScore(this, context);
+  }
+
   /**
    * A score component builder.
    *
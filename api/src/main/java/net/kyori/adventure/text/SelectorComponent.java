@@ -91,6 +91,11 @@ public interface SelectorComponent extends BuildableComponent<SelectorComponent,
     );
   }
 
+  @Override
+  default <R, C> R accept(final @NotNull ComponentVisitor<R, C> visitor, final C context) {
+    return visitor.visitSelector(this, context);
+  }
+
   /**
    * A selector component builder.
    *
@@ -73,6 +73,11 @@ public interface StorageNBTComponent extends NBTComponent<StorageNBTComponent, S
     );
   }
 
+  @Override
+  default <R, C> R accept(final @NotNull ComponentVisitor<R, C> visitor, final C context) {
+    return visitor.visitStorageNBT(this, context);
+  }
+
   /**
    * A command storage NBT component builder.
    *
@@ -83,6 +83,11 @@ public interface TextComponent extends BuildableComponent<TextComponent, TextCom
     );
   }
 
+  @Override
+  default <R, C> R accept(final @NotNull ComponentVisitor<R, C> visitor, final C context) {
+    return visitor.visitText(this, context);
+  }
+
   /**
    * A text component builder.
    *
@@ -204,6 +204,11 @@ public interface TranslatableComponent extends BuildableComponent<TranslatableCo
     );
   }
 
+  @Override
+  default <R, C> R accept(final @NotNull ComponentVisitor<R, C> visitor, final C context) {
+    return visitor.visitTranslatable(this, context);
+  }
+
   /**
    * A text component builder.
    *
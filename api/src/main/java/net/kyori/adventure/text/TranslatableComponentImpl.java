@@ -124,8 +124,8 @@ final class TranslatableComponentImpl extends AbstractComponent implements Trans
   }
 
   @Override
-  public int hashCode() {
-    int result = super.hashCode();
+  int hashCode0() {
+    int result = super.hashCode0();
     result = (31 * result) + this.key.hashCode();
     result = (31 * result) + Objects.hashCode(this.fallback);
     result = (31 * result) + this.args.hashCode();
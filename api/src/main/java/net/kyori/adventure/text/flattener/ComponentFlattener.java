@@ -32,6 +32,8 @@ import net.kyori.adventure.util.Buildable;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * A 'flattener' to convert a component tree to a linear string for display.
  *
@@ -82,6 +84,22 @@ public interface ComponentFlattener extends Buildable<ComponentFlattener, Compon
    */
   void flatten(final @NotNull Component input, final @NotNull FlattenerListener listener);
 
+  /**
+   * Perform a flattening on the component, writing its text to {@code buffer} and reporting styled runs of that text to the {@code listener}.
+   *
+   * <p>Text is appended to the buffer, and the offsets of runs are relative to the start of the buffer.</p>
+   *
+   * @param input the component to be flattened
+   * @param buffer the buffer to write text to
+   * @param listener the listener that will receive runs of styled text
+   * @since 4.18.0
+   */
+  default void flatten(final @NotNull Component input, final @NotNull StringBuilder buffer, final @NotNull FlattenerRunListener listener) {
+    final StyleRunCollector collector = new StyleRunCollector(requireNonNull(buffer, "buffer"), requireNonNull(listener, "listener"), false);
+    this.flatten(input, collector);
+    collector.flush();
+  }
+
   /**
    * A builder for a component flattener.
    *
@@ -123,5 +141,21 @@ public interface ComponentFlattener extends Buildable<ComponentFlattener, Compon
      * @since 4.7.0
      */
     @NotNull Builder unknownMapper(final @Nullable Function<Component, String> converter);
+
+    /**
+     * Set whether listeners are passed the effective style of each component.
+     *
+     * <p>When enabled, {@link FlattenerListener#pushStyle(net.kyori.adventure.text.format.Style)} receives the style of each
+     * component with the styles of all of its parents merged in, rather than the style of the component alone.
+     * Effective styles are resolved from the parent's effective style as the tree is walked, so listeners do not need
+     * to keep a stack of styles to merge themselves.</p>
+     *
+     * <p>This is disabled by default.</p>
+     *
+     * @param resolveStyles whether to resolve effective styles
+     * @return this builder
+     * @since 4.18.0
+     */
+    @NotNull Builder resolveStyles(final boolean resolveStyles);
   }
 }
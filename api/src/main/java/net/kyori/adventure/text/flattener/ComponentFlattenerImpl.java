@@ -23,13 +23,21 @@
  */
 package net.kyori.adventure.text.flattener;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import net.kyori.adventure.text.BlockNBTComponent;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentVisitor;
+import net.kyori.adventure.text.EntityNBTComponent;
 import net.kyori.adventure.text.KeybindComponent;
 import net.kyori.adventure.text.ScoreComponent;
 import net.kyori.adventure.text.SelectorComponent;
+import net.kyori.adventure.text.StorageNBTComponent;
 import net.kyori.adventure.text.TextComponent;
 import net.kyori.adventure.text.TranslatableComponent;
 import net.kyori.adventure.text.format.Style;
@@ -40,6 +48,8 @@ import org.jetbrains.annotations.Nullable;
 import static java.util.Objects.requireNonNull;
 
 final class ComponentFlattenerImpl implements ComponentFlattener {
+  private static final Handler NO_HANDLER = (component, listener, nested) -> {
+  };
   @SuppressWarnings("deprecation")
   static final ComponentFlattener BASIC = new BuilderImpl()
     .mapper(KeybindComponent.class, component -> component.keybind()) // IntelliJ is wrong here, this is fine
@@ -60,98 +70,268 @@ final class ComponentFlattenerImpl implements ComponentFlattener {
     .mapper(TextComponent.class, TextComponent::content)
     .build();
 
-  private static final int MAX_DEPTH = 512;
-
   private final InheritanceAwareMap<Component, Handler> flatteners;
   private final Function<Component, String> unknownHandler;
+  private final boolean resolveStyles;
+  private final Handlers handlers;
+  private final StyleMergeCache styleCache = new StyleMergeCache();
 
-  ComponentFlattenerImpl(final InheritanceAwareMap<Component, Handler> flatteners, final @Nullable Function<Component, String> unknownHandler) {
+  ComponentFlattenerImpl(final InheritanceAwareMap<Component, Handler> flatteners, final @Nullable Function<Component, String> unknownHandler, final boolean resolveStyles) {
     this.flatteners = flatteners;
     this.unknownHandler = unknownHandler;
+    this.resolveStyles = resolveStyles;
+    final Handler unknown = unknownHandler == null ? NO_HANDLER : (component, listener, nested) -> listener.component(unknownHandler.apply(component));
+    this.handlers = new Handlers(flatteners, unknown);
   }
 
   @Override
   public void flatten(final @NotNull Component input, final @NotNull FlattenerListener listener) {
-    this.flatten0(input, listener, 0);
-  }
-
-  private void flatten0(final @NotNull Component input, final @NotNull FlattenerListener listener, final int depth) {
     requireNonNull(input, "input");
     requireNonNull(listener, "listener");
     if (input == Component.empty()) return;
-    if (depth > MAX_DEPTH) {
-      throw new IllegalStateException("Exceeded maximum depth of " + MAX_DEPTH + " while attempting to flatten components!");
-    }
-
-    final @Nullable Handler flattener = this.flattener(input);
-    final Style inputStyle = input.style();
-
-    listener.pushStyle(inputStyle);
-    try {
-      if (flattener != null) {
-        flattener.handle(this, input, listener, depth + 1);
-      }
+    new Flattening(this, listener, this.resolveStyles).flatten(input);
+  }
 
-      if (!input.children().isEmpty() && listener.shouldContinue()) {
-        for (final Component child : input.children()) {
-          this.flatten0(child, listener, depth + 1);
-        }
-      }
-    } finally {
-      listener.popStyle(inputStyle);
+  @Override
+  public void flatten(final @NotNull Component input, final @NotNull StringBuilder buffer, final @NotNull FlattenerRunListener listener) {
+    requireNonNull(input, "input");
+    final StyleRunCollector collector = new StyleRunCollector(requireNonNull(buffer, "buffer"), requireNonNull(listener, "listener"), true);
+    if (input != Component.empty()) {
+      new Flattening(this, collector, true).flatten(input);
     }
+    collector.flush();
   }
 
-  private <T extends Component> @Nullable Handler flattener(final T test) {
-    final Handler flattener = this.flatteners.get(test.getClass());
-
-    if (flattener == null && this.unknownHandler != null) {
-      return (self, component, listener, depth) -> listener.component(this.unknownHandler.apply(component));
-    } else {
-      return flattener;
-    }
+  private Handler handler(final Component component) {
+    return component.accept(this.handlers, null);
   }
 
   @Override
   public ComponentFlattener.@NotNull Builder toBuilder() {
-    return new BuilderImpl(this.flatteners, this.unknownHandler);
+    return new BuilderImpl(this.flatteners, this.unknownHandler, this.resolveStyles);
   }
 
   // A function that allows nesting other flatten operations
   @FunctionalInterface
   interface Handler {
-    void handle(final ComponentFlattenerImpl self, final Component input, final FlattenerListener listener, final int depth);
+    void handle(final Component input, final FlattenerListener listener, final Consumer<Component> nested);
+  }
+
+  // The handler for each type of component, resolved once when the flattener is built
+  private static final class Handlers implements ComponentVisitor<Handler, Void> {
+    private final Handler text;
+    private final Handler translatable;
+    private final Handler keybind;
+    private final Handler score;
+    private final Handler selector;
+    private final Handler blockNbt;
+    private final Handler entityNbt;
+    private final Handler storageNbt;
+
+    Handlers(final InheritanceAwareMap<Component, Handler> flatteners, final Handler unknown) {
+      this.text = resolve(flatteners, TextComponent.class, unknown);
+      this.translatable = resolve(flatteners, TranslatableComponent.class, unknown);
+      this.keybind = resolve(flatteners, KeybindComponent.class, unknown);
+      this.score = resolve(flatteners, ScoreComponent.class, unknown);
+      this.selector = resolve(flatteners, SelectorComponent.class, unknown);
+      this.blockNbt = resolve(flatteners, BlockNBTComponent.class, unknown);
+      this.entityNbt = resolve(flatteners, EntityNBTComponent.class, unknown);
+      this.storageNbt = resolve(flatteners, StorageNBTComponent.class, unknown);
+    }
+
+    private static Handler resolve(final InheritanceAwareMap<Component, Handler> flatteners, final Class<? extends Component> type, final Handler unknown) {
+      final @Nullable Handler handler = flatteners.get(type);
+      return handler == null ? unknown : handler;
+    }
+
+    @Override
+    public Handler visitText(final @NotNull TextComponent component, final Void context) {
+      return this.text;
+    }
+
+    @Override
+    public Handler visitTranslatable(final @NotNull TranslatableComponent component, final Void context) {
+      return this.translatable;
+    }
+
+    @Override
+    public Handler visitKeybind(final @NotNull KeybindComponent component, final Void context) {
+      return this.keybind;
+    }
+
+    @Override
+    public Handler visitScore(final @NotNull ScoreComponent component, final Void context) {
+      return this.score;
+    }
+
+    @Override
+    public Handler visitSelector(final @NotNull SelectorComponent component, final Void context) {
+      return this.selector;
+    }
+
+    @Override
+    public Handler visitBlockNBT(final @NotNull BlockNBTComponent component, final Void context) {
+      return this.blockNbt;
+    }
+
+    @Override
+    public Handler visitEntityNBT(final @NotNull EntityNBTComponent component, final Void context) {
+      return this.entityNbt;
+    }
+
+    @Override
+    public Handler visitStorageNBT(final @NotNull StorageNBTComponent component, final Void context) {
+      return this.storageNbt;
+    }
+  }
+
+  // The state of a single flatten operation, walking the tree depth-first with an explicit stack
+  private static final class Flattening {
+    private final ComponentFlattenerImpl flattener;
+    private final FlattenerListener listener;
+    private final boolean resolveStyles;
+    // frames are reused between siblings, so only a new depth allocates
+    private Frame[] frames = new Frame[8];
+    private int depth;
+
+    Flattening(final ComponentFlattenerImpl flattener, final FlattenerListener listener, final boolean resolveStyles) {
+      this.flattener = flattener;
+      this.listener = listener;
+      this.resolveStyles = resolveStyles;
+    }
+
+    void flatten(final Component input) {
+      try {
+        this.enter(input);
+        while (this.depth > 0) {
+          final Frame frame = this.frames[this.depth - 1];
+          final @Nullable Component next = frame.next(this.listener);
+          if (next != null) {
+            this.enter(next);
+          } else {
+            this.exit();
+          }
+        }
+      } finally {
+        // only reached with open frames if a handler or listener threw
+        while (this.depth > 0) {
+          this.exit();
+        }
+      }
+    }
+
+    private void enter(final Component component) {
+      if (component == Component.empty()) return;
+
+      if (this.depth == this.frames.length) {
+        this.frames = Arrays.copyOf(this.frames, this.depth << 1);
+      }
+      Frame frame = this.frames[this.depth];
+      if (frame == null) {
+        frame = this.frames[this.depth] = new Frame();
+      }
+      frame.component = component;
+      if (this.resolveStyles) {
+        // resolved incrementally from the parent's effective style
+        frame.style = this.depth == 0 ? component.style() : this.flattener.styleCache.merge(this.frames[this.depth - 1].style, component.style());
+      } else {
+        frame.style = component.style();
+      }
+      this.depth++;
+
+      this.listener.pushStyle(frame.style);
+      this.flattener.handler(component).handle(component, this.listener, frame);
+    }
+
+    private void exit() {
+      final Frame frame = this.frames[--this.depth];
+      final Style style = frame.style;
+      frame.reset();
+      this.listener.popStyle(style);
+    }
+  }
+
+  // A component being flattened, collecting components its handler nests to flatten them before its children
+  private static final class Frame implements Consumer<Component> {
+    @Nullable Component component;
+    @Nullable Style style;
+    private @Nullable List<Component> nested;
+    private int nestedIndex;
+    private @Nullable List<Component> children;
+    private int childIndex;
+
+    @Override
+    public void accept(final Component component) {
+      requireNonNull(component, "input");
+      if (this.nested == null) {
+        this.nested = new ArrayList<>();
+      }
+      this.nested.add(component);
+    }
+
+    @Nullable Component next(final FlattenerListener listener) {
+      final @Nullable List<Component> nested = this.nested;
+      if (nested != null && this.nestedIndex < nested.size()) {
+        return nested.get(this.nestedIndex++);
+      }
+
+      List<Component> children = this.children;
+      if (children == null) {
+        children = this.component.children();
+        if (children.isEmpty() || !listener.shouldContinue()) {
+          children = Collections.emptyList();
+        }
+        this.children = children;
+      }
+      if (this.childIndex < children.size()) {
+        return children.get(this.childIndex++);
+      }
+      return null;
+    }
+
+    void reset() {
+      this.component = null;
+      this.style = null;
+      if (this.nested != null) {
+        this.nested.clear();
+      }
+      this.nestedIndex = 0;
+      this.children = null;
+      this.childIndex = 0;
+    }
   }
 
   static final class BuilderImpl implements Builder {
     private final InheritanceAwareMap.Builder<Component, Handler> flatteners;
     private @Nullable Function<Component, String> unknownHandler;
+    private boolean resolveStyles;
 
     BuilderImpl() {
       this.flatteners = InheritanceAwareMap.<Component, Handler>builder().strict(true);
     }
 
-    BuilderImpl(final InheritanceAwareMap<Component, Handler> flatteners, final @Nullable Function<Component, String> unknownHandler) {
+    BuilderImpl(final InheritanceAwareMap<Component, Handler> flatteners, final @Nullable Function<Component, String> unknownHandler, final boolean resolveStyles) {
       this.flatteners = InheritanceAwareMap.builder(flatteners).strict(true);
       this.unknownHandler = unknownHandler;
+      this.resolveStyles = resolveStyles;
     }
 
     @Override
     public @NotNull ComponentFlattener build() {
-      return new ComponentFlattenerImpl(this.flatteners.build(), this.unknownHandler);
+      return new ComponentFlattenerImpl(this.flatteners.build(), this.unknownHandler, this.resolveStyles);
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public <T extends Component> ComponentFlattener.@NotNull Builder mapper(final @NotNull Class<T> type, final @NotNull Function<T, String> converter) {
-      this.flatteners.put(type, (self, component, listener, depth) -> listener.component(converter.apply((T) component)));
+      this.flatteners.put(type, (component, listener, nested) -> listener.component(converter.apply((T) component)));
       return this;
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public <T extends Component> ComponentFlattener.@NotNull Builder complexMapper(final @NotNull Class<T> type, final @NotNull BiConsumer<T, Consumer<Component>> converter) {
-      this.flatteners.put(type, (self, component, listener, depth) -> converter.accept((T) component, c -> self.flatten0(c, listener, depth)));
+      this.flatteners.put(type, (component, listener, nested) -> converter.accept((T) component, nested));
       return this;
     }
 
@@ -160,5 +340,11 @@ final class ComponentFlattenerImpl implements ComponentFlattener {
       this.unknownHandler = converter;
       return this;
     }
+
+    @Override
+    public ComponentFlattener.@NotNull Builder resolveStyles(final boolean resolveStyles) {
+      this.resolveStyles = resolveStyles;
+      return this;
+    }
   }
 }
@@ -0,0 +1,63 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.flattener;
+
+import net.kyori.adventure.text.format.Style;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A listener accepting runs of styled text from flattened components.
+ *
+ * <p>The text of every run is written to a single buffer, and runs are reported as offsets into that buffer
+ * together with the effective style of the text, so listeners do not need to track the styles of parent components.</p>
+ *
+ * @see ComponentFlattener#flatten(net.kyori.adventure.text.Component, StringBuilder, FlattenerRunListener)
+ * @since 4.18.0
+ */
+@FunctionalInterface
+public interface FlattenerRunListener {
+  /**
+   * Accept a run of text.
+   *
+   * <p>Neighbouring text with an equal effective style is reported as a single run, and runs are never empty.</p>
+   *
+   * @param start the index of the first character of the run in the buffer, inclusive
+   * @param end the index of the last character of the run in the buffer, exclusive
+   * @param style the effective style of the run, with the styles of all parent components merged in
+   * @since 4.18.0
+   */
+  void run(final int start, final int end, final @NotNull Style style);
+
+  /**
+   * Determine if the flattener should continue running.
+   *
+   * <p>Text already written to the buffer may not have been reported as a run yet when this is called.</p>
+   *
+   * @return {@code true} if the flattener should continue or {@code false} if it should stop
+   * @since 4.18.0
+   */
+  default boolean shouldContinue() {
+    return true;
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.flattener;
+
+import net.kyori.adventure.text.format.Style;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+// A small, lossy cache of effective styles, keyed by the identity of the parent's effective style and the child's style
+final class StyleMergeCache {
+  private static final int SIZE = 256; // must be a power of two
+
+  // entries are immutable, so racing writers can only cause a miss
+  private final Entry[] entries = new Entry[SIZE];
+
+  @NotNull Style merge(final @NotNull Style parent, final @NotNull Style child) {
+    if (child.isEmpty()) return parent;
+    if (parent.isEmpty()) return child;
+
+    final int index = index(parent, child);
+    final @Nullable Entry entry = this.entries[index];
+    if (entry != null && entry.parent == parent && entry.child == child) {
+      return entry.merged;
+    }
+
+    final Style merged = child.merge(parent, Style.Merge.Strategy.IF_ABSENT_ON_TARGET);
+    this.entries[index] = new Entry(parent, child, merged);
+    return merged;
+  }
+
+  private static int index(final Style parent, final Style child) {
+    final int hash = System.identityHashCode(parent) * 31 + System.identityHashCode(child);
+    return (hash ^ (hash >>> 16)) & (SIZE - 1);
+  }
+
+  private static final class Entry {
+    final Style parent;
+    final Style child;
+    final Style merged;
+
+    Entry(final Style parent, final Style child, final Style merged) {
+      this.parent = parent;
+      this.child = child;
+      this.merged = merged;
+    }
+  }
+}
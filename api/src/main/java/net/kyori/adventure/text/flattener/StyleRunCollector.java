@@ -0,0 +1,97 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.flattener;
+
+import java.util.Arrays;
+import net.kyori.adventure.text.format.Style;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+// Adapts a FlattenerRunListener, tracking effective styles and coalescing equally styled text into runs
+final class StyleRunCollector implements FlattenerListener {
+  private final StringBuilder buffer;
+  private final FlattenerRunListener listener;
+  // whether pushed styles are already effective styles
+  private final boolean resolved;
+  private Style[] styles = new Style[8];
+  private int head = -1;
+  private @Nullable Style runStyle;
+  private int runStart;
+  private int runEnd;
+
+  StyleRunCollector(final StringBuilder buffer, final FlattenerRunListener listener, final boolean resolved) {
+    this.buffer = buffer;
+    this.listener = listener;
+    this.resolved = resolved;
+  }
+
+  @Override
+  public void pushStyle(final @NotNull Style style) {
+    final int idx = ++this.head;
+    if (idx >= this.styles.length) {
+      this.styles = Arrays.copyOf(this.styles, this.styles.length * 2);
+    }
+    this.styles[idx] = idx == 0 || this.resolved ? style : style.merge(this.styles[idx - 1], Style.Merge.Strategy.IF_ABSENT_ON_TARGET);
+  }
+
+  @Override
+  public void component(final @NotNull String text) {
+    if (text.isEmpty()) return;
+    if (this.head < 0) throw new IllegalStateException("No style has been pushed!");
+
+    final Style style = this.styles[this.head];
+    final int start = this.buffer.length();
+    this.buffer.append(text);
+    final int end = this.buffer.length();
+
+    final @Nullable Style runStyle = this.runStyle;
+    if (runStyle != null && this.runEnd == start && (runStyle == style || runStyle.equals(style))) {
+      this.runEnd = end;
+      return;
+    }
+    this.flush();
+    this.runStyle = style;
+    this.runStart = start;
+    this.runEnd = end;
+  }
+
+  @Override
+  public boolean shouldContinue() {
+    return this.listener.shouldContinue();
+  }
+
+  @Override
+  public void popStyle(final @NotNull Style style) {
+    if (this.head < 0) throw new IllegalStateException("Tried to pop beyond what was pushed!");
+    this.styles[this.head--] = null;
+  }
+
+  void flush() {
+    final @Nullable Style runStyle = this.runStyle;
+    if (runStyle != null) {
+      this.runStyle = null;
+      this.listener.run(this.runStart, this.runEnd, runStyle);
+    }
+  }
+}
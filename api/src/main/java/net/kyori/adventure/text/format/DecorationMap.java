@@ -84,7 +84,22 @@ final class DecorationMap extends AbstractMap<TextDecoration, TextDecoration.Sta
   private static final int MAP_SIZE = DECORATIONS.length;
   private static final TextDecoration.State[] EMPTY_STATE_ARRAY = {};
 
-  static final DecorationMap EMPTY = new DecorationMap(0); // NOT_SET = 0 (happens to be the first State entry!)
+  // the low bit of every state bit pair
+  private static final int LOW_BITS = 0b0101010101;
+  // every valid bit set, indexed by the bit set itself. only 3^5 of the 4^5 slots are populated,
+  // as the 0b11 state pair is never produced
+  private static final DecorationMap[] VALUES = new DecorationMap[1 << (MAP_SIZE * 2)];
+
+  static {
+    for (int bitSet = 0; bitSet < VALUES.length; bitSet++) {
+      // skip any bit set containing an 0b11 pair
+      if ((bitSet & (bitSet >> 1) & LOW_BITS) == 0) {
+        VALUES[bitSet] = new DecorationMap(bitSet);
+      }
+    }
+  }
+
+  static final DecorationMap EMPTY = VALUES[0]; // NOT_SET = 0 (happens to be the first State entry!)
   // key set is universal, all decorations always exist in any given style
   private static final KeySet KEY_SET = new KeySet();
 
@@ -105,9 +120,14 @@ final class DecorationMap extends AbstractMap<TextDecoration, TextDecoration.Sta
     return withBitSet(bitSet);
   }
 
-  // TODO: use an array cache? bitset value = index of corresponding DecorationMap in the array
   private static DecorationMap withBitSet(final int bitSet) {
-    return bitSet == 0 ? EMPTY : new DecorationMap(bitSet);
+    return VALUES[bitSet];
+  }
+
+  // a mask covering both bits of every decoration that is not NOT_SET
+  private static int setMask(final int bitSet) {
+    final int low = (bitSet | (bitSet >> 1)) & LOW_BITS;
+    return low | (low << 1);
   }
 
   private static int offset(final TextDecoration decoration) {
@@ -133,6 +153,35 @@ final class DecorationMap extends AbstractMap<TextDecoration, TextDecoration.Sta
     return withBitSet((this.bitSet & ~(0b11 * offset)) | (state.ordinal() * offset));
   }
 
+  /**
+   * Merges {@code that} onto this map.
+   *
+   * <p>When {@code always} is {@code true} every decoration set in {@code that} is taken,
+   * otherwise only decorations which are not set in this map are taken.</p>
+   *
+   * @param that the map to merge from
+   * @param always whether set decorations in {@code that} replace the ones in this map
+   * @return the merged map
+   */
+  @NotNull DecorationMap merge(final @NotNull DecorationMap that, final boolean always) {
+    final int merged = always
+      ? (this.bitSet & ~setMask(that.bitSet)) | that.bitSet
+      : this.bitSet | (that.bitSet & ~setMask(this.bitSet));
+    if (merged == this.bitSet) return this;
+    if (merged == that.bitSet) return that;
+    return withBitSet(merged);
+  }
+
+  /**
+   * Resets every decoration that has the same state in {@code that} to {@link TextDecoration.State#NOT_SET}.
+   *
+   * @param that the map to compare against
+   * @return the unmerged map
+   */
+  @NotNull DecorationMap unmerge(final @NotNull DecorationMap that) {
+    return withBitSet(this.bitSet & setMask(this.bitSet ^ that.bitSet));
+  }
+
   @Override
   public @NotNull Stream<? extends ExaminableProperty> examinableProperties() {
     return Arrays.stream(DECORATIONS)
@@ -23,7 +23,6 @@
  */
 package net.kyori.adventure.text.format;
 
-import java.util.EnumMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -41,6 +40,18 @@ import static java.util.Objects.requireNonNull;
 
 final class StyleImpl implements Style {
   static final StyleImpl EMPTY = new StyleImpl(null, null, DecorationMap.EMPTY, null, null, null);
+
+  static @NotNull StyleImpl create(
+    final @Nullable Key font,
+    final @Nullable TextColor color,
+    final @NotNull Map<TextDecoration, TextDecoration.State> decorations,
+    final @Nullable ClickEvent clickEvent,
+    final @Nullable HoverEvent<?> hoverEvent,
+    final @Nullable String insertion
+  ) {
+    return StyleInterner.maybeIntern(new StyleImpl(font, color, decorations, clickEvent, hoverEvent, insertion));
+  }
+
   // visible to avoid generating accessors when creating a builder
   final @Nullable Key font;
   final @Nullable TextColor color;
@@ -48,8 +59,10 @@ final class StyleImpl implements Style {
   final @Nullable ClickEvent clickEvent;
   final @Nullable HoverEvent<?> hoverEvent;
   final @Nullable String insertion;
+  // lazy, 0 means not yet computed
+  private int hash;
 
-  StyleImpl(
+  private StyleImpl(
     final @Nullable Key font,
     final @Nullable TextColor color,
     final @NotNull Map<TextDecoration, TextDecoration.State> decorations,
@@ -73,7 +86,7 @@ final class StyleImpl implements Style {
   @Override
   public @NotNull Style font(final @Nullable Key font) {
     if (Objects.equals(this.font, font)) return this;
-    return new StyleImpl(font, this.color, this.decorations, this.clickEvent, this.hoverEvent, this.insertion);
+    return create(font, this.color, this.decorations, this.clickEvent, this.hoverEvent, this.insertion);
   }
 
   @Override
@@ -84,7 +97,7 @@ final class StyleImpl implements Style {
   @Override
   public @NotNull Style color(final @Nullable TextColor color) {
     if (Objects.equals(this.color, color)) return this;
-    return new StyleImpl(this.font, color, this.decorations, this.clickEvent, this.hoverEvent, this.insertion);
+    return create(this.font, color, this.decorations, this.clickEvent, this.hoverEvent, this.insertion);
   }
 
   @Override
@@ -109,7 +122,7 @@ final class StyleImpl implements Style {
   public @NotNull Style decoration(final @NotNull TextDecoration decoration, final TextDecoration.@NotNull State state) {
     requireNonNull(state, "state");
     if (this.decoration(decoration) == state) return this;
-    return new StyleImpl(this.font, this.color, this.decorations.with(decoration, state), this.clickEvent, this.hoverEvent, this.insertion);
+    return create(this.font, this.color, this.decorations.with(decoration, state), this.clickEvent, this.hoverEvent, this.insertion);
   }
 
   @Override
@@ -117,7 +130,7 @@ final class StyleImpl implements Style {
     requireNonNull(state, "state");
     final TextDecoration.@Nullable State oldState = this.decorations.get(decoration);
     if (oldState == TextDecoration.State.NOT_SET) {
-      return new StyleImpl(this.font, this.color, this.decorations.with(decoration, state), this.clickEvent, this.hoverEvent, this.insertion);
+      return create(this.font, this.color, this.decorations.with(decoration, state), this.clickEvent, this.hoverEvent, this.insertion);
     }
     if (oldState != null) {
       return this;
@@ -132,7 +145,7 @@ final class StyleImpl implements Style {
 
   @Override
   public @NotNull Style decorations(final @NotNull Map<TextDecoration, TextDecoration.State> decorations) {
-    return new StyleImpl(this.font, this.color, DecorationMap.merge(decorations, this.decorations), this.clickEvent, this.hoverEvent, this.insertion);
+    return create(this.font, this.color, DecorationMap.merge(decorations, this.decorations), this.clickEvent, this.hoverEvent, this.insertion);
   }
 
   @Override
@@ -142,7 +155,7 @@ final class StyleImpl implements Style {
 
   @Override
   public @NotNull Style clickEvent(final @Nullable ClickEvent event) {
-    return new StyleImpl(this.font, this.color, this.decorations, event, this.hoverEvent, this.insertion);
+    return create(this.font, this.color, this.decorations, event, this.hoverEvent, this.insertion);
   }
 
   @Override
@@ -152,7 +165,7 @@ final class StyleImpl implements Style {
 
   @Override
   public @NotNull Style hoverEvent(final @Nullable HoverEventSource<?> source) {
-    return new StyleImpl(this.font, this.color, this.decorations, this.clickEvent, HoverEventSource.unbox(source), this.insertion);
+    return create(this.font, this.color, this.decorations, this.clickEvent, HoverEventSource.unbox(source), this.insertion);
   }
 
   @Override
@@ -163,7 +176,7 @@ final class StyleImpl implements Style {
   @Override
   public @NotNull Style insertion(final @Nullable String insertion) {
     if (Objects.equals(this.insertion, insertion)) return this;
-    return new StyleImpl(this.font, this.color, this.decorations, this.clickEvent, this.hoverEvent, insertion);
+    return create(this.font, this.color, this.decorations, this.clickEvent, this.hoverEvent, insertion);
   }
 
   @Override
@@ -178,9 +191,29 @@ final class StyleImpl implements Style {
       return that;
     }
 
-    final Builder builder = this.toBuilder();
-    builder.merge(that, strategy, merges);
-    return builder.build();
+    if (!(that instanceof StyleImpl)) {
+      final Builder builder = this.toBuilder();
+      builder.merge(that, strategy, merges);
+      return builder.build();
+    }
+
+    // merge field by field, keeping our own value whenever it would not change
+    final StyleImpl other = (StyleImpl) that;
+    final boolean always = strategy == Merge.Strategy.ALWAYS;
+    final TextColor color = merges.contains(Merge.COLOR) ? mergeField(this.color, other.color, always) : this.color;
+    final DecorationMap decorations = merges.contains(Merge.DECORATIONS) ? this.decorations.merge(other.decorations, always) : this.decorations;
+    final boolean events = merges.contains(Merge.EVENTS);
+    final ClickEvent clickEvent = events ? mergeField(this.clickEvent, other.clickEvent, always) : this.clickEvent;
+    final HoverEvent<?> hoverEvent = events ? mergeField(this.hoverEvent, other.hoverEvent, always) : this.hoverEvent;
+    final String insertion = merges.contains(Merge.INSERTION) ? mergeField(this.insertion, other.insertion, always) : this.insertion;
+    final Key font = merges.contains(Merge.FONT) ? mergeField(this.font, other.font, always) : this.font;
+
+    return this.reuseOrCreate(other, font, color, decorations, clickEvent, hoverEvent, insertion);
+  }
+
+  private static <T> @Nullable T mergeField(final @Nullable T target, final @Nullable T source, final boolean always) {
+    if (source == null || (!always && target != null) || source.equals(target)) return target;
+    return source;
   }
 
   @Override
@@ -190,36 +223,53 @@ final class StyleImpl implements Style {
       return this;
     }
 
-    final Style.Builder builder = new BuilderImpl(this);
-
-    if (Objects.equals(this.font(), that.font())) {
-      builder.font(null);
+    if (!(that instanceof StyleImpl)) {
+      final BuilderImpl builder = new BuilderImpl();
+      builder.merge(that);
+      return this.unmerge(builder.build());
     }
 
-    if (Objects.equals(this.color(), that.color())) {
-      builder.color(null);
-    }
+    final StyleImpl other = (StyleImpl) that;
+    final Key font = Objects.equals(this.font, other.font) ? null : this.font;
+    final TextColor color = Objects.equals(this.color, other.color) ? null : this.color;
+    final DecorationMap decorations = this.decorations.unmerge(other.decorations);
+    final ClickEvent clickEvent = Objects.equals(this.clickEvent, other.clickEvent) ? null : this.clickEvent;
+    final HoverEvent<?> hoverEvent = Objects.equals(this.hoverEvent, other.hoverEvent) ? null : this.hoverEvent;
+    final String insertion = Objects.equals(this.insertion, other.insertion) ? null : this.insertion;
 
-    for (int i = 0, length = DecorationMap.DECORATIONS.length; i < length; i++) {
-      final TextDecoration decoration = DecorationMap.DECORATIONS[i];
-      if (this.decoration(decoration) == that.decoration(decoration)) {
-        builder.decoration(decoration, TextDecoration.State.NOT_SET);
-      }
-    }
-
-    if (Objects.equals(this.clickEvent(), that.clickEvent())) {
-      builder.clickEvent(null);
-    }
-
-    if (Objects.equals(this.hoverEvent(), that.hoverEvent())) {
-      builder.hoverEvent(null);
-    }
+    return this.reuseOrCreate(other, font, color, decorations, clickEvent, hoverEvent, insertion);
+  }
 
-    if (Objects.equals(this.insertion(), that.insertion())) {
-      builder.insertion(null);
-    }
+  private @NotNull StyleImpl reuseOrCreate(
+    final @NotNull StyleImpl other,
+    final @Nullable Key font,
+    final @Nullable TextColor color,
+    final @NotNull DecorationMap decorations,
+    final @Nullable ClickEvent clickEvent,
+    final @Nullable HoverEvent<?> hoverEvent,
+    final @Nullable String insertion
+  ) {
+    if (this.hasFields(font, color, decorations, clickEvent, hoverEvent, insertion)) return this;
+    if (other.hasFields(font, color, decorations, clickEvent, hoverEvent, insertion)) return other;
+    if (EMPTY.hasFields(font, color, decorations, clickEvent, hoverEvent, insertion)) return EMPTY;
+    return create(font, color, decorations, clickEvent, hoverEvent, insertion);
+  }
 
-    return builder.build();
+  private boolean hasFields(
+    final @Nullable Key font,
+    final @Nullable TextColor color,
+    final @NotNull DecorationMap decorations,
+    final @Nullable ClickEvent clickEvent,
+    final @Nullable HoverEvent<?> hoverEvent,
+    final @Nullable String insertion
+  ) {
+    // identity checks only, the merged fields are always taken from one of the inputs
+    return this.font == font
+      && this.color == color
+      && this.decorations == decorations
+      && this.clickEvent == clickEvent
+      && this.hoverEvent == hoverEvent
+      && this.insertion == insertion;
   }
 
   @SuppressWarnings("RedundantIfStatement")
@@ -264,6 +314,7 @@ final class StyleImpl implements Style {
     if (this == other) return true;
     if (!(other instanceof StyleImpl)) return false;
     final StyleImpl that = (StyleImpl) other;
+    if (this.hash != 0 && that.hash != 0 && this.hash != that.hash) return false;
     return Objects.equals(this.color, that.color)
       && this.decorations.equals(that.decorations)
       && Objects.equals(this.clickEvent, that.clickEvent)
@@ -274,6 +325,15 @@ final class StyleImpl implements Style {
 
   @Override
   public int hashCode() {
+    int result = this.hash;
+    if (result == 0) {
+      result = this.computeHashCode();
+      this.hash = result;
+    }
+    return result;
+  }
+
+  private int computeHashCode() {
     int result = Objects.hashCode(this.color);
     result = (31 * result) + this.decorations.hashCode();
     result = (31 * result) + Objects.hashCode(this.clickEvent);
@@ -286,18 +346,18 @@ final class StyleImpl implements Style {
   static final class BuilderImpl implements Builder {
     @Nullable Key font;
     @Nullable TextColor color;
-    final Map<TextDecoration, TextDecoration.State> decorations;
+    DecorationMap decorations;
     @Nullable ClickEvent clickEvent;
     @Nullable HoverEvent<?> hoverEvent;
     @Nullable String insertion;
 
     BuilderImpl() {
-      this.decorations = new EnumMap<>(DecorationMap.EMPTY);
+      this.decorations = DecorationMap.EMPTY;
     }
 
     BuilderImpl(final @NotNull StyleImpl style) {
       this.color = style.color;
-      this.decorations = new EnumMap<>(style.decorations);
+      this.decorations = style.decorations;
       this.clickEvent = style.clickEvent;
       this.hoverEvent = style.hoverEvent;
       this.insertion = style.insertion;
@@ -328,7 +388,7 @@ final class StyleImpl implements Style {
     public @NotNull Builder decoration(final @NotNull TextDecoration decoration, final TextDecoration.@NotNull State state) {
       requireNonNull(state, "state");
       requireNonNull(decoration, "decoration");
-      this.decorations.put(decoration, state);
+      this.decorations = this.decorations.with(decoration, state);
       return this;
     }
 
@@ -337,7 +397,7 @@ final class StyleImpl implements Style {
       requireNonNull(state, "state");
       final TextDecoration.@Nullable State oldState = this.decorations.get(decoration);
       if (oldState == TextDecoration.State.NOT_SET) {
-        this.decorations.put(decoration, state);
+        this.decorations = this.decorations.with(decoration, state);
       }
       if (oldState != null) {
         return this;
@@ -383,17 +443,7 @@ final class StyleImpl implements Style {
       }
 
       if (merges.contains(Merge.DECORATIONS)) {
-        for (int i = 0, length = DecorationMap.DECORATIONS.length; i < length; i++) {
-          final TextDecoration decoration = DecorationMap.DECORATIONS[i];
-          final TextDecoration.State state = that.decoration(decoration);
-          if (state != TextDecoration.State.NOT_SET) {
-            if (strategy == Merge.Strategy.ALWAYS) {
-              this.decoration(decoration, state);
-            } else if (strategy == Merge.Strategy.IF_ABSENT_ON_TARGET) {
-              this.decorationIfAbsent(decoration, state);
-            }
-          }
-        }
+        this.decorations = this.decorations.merge(DecorationMap.fromMap(that.decorations()), strategy == Merge.Strategy.ALWAYS);
       }
 
       if (merges.contains(Merge.EVENTS)) {
@@ -438,12 +488,12 @@ final class StyleImpl implements Style {
       if (this.isEmpty()) {
         return EMPTY;
       }
-      return new StyleImpl(this.font, this.color, this.decorations, this.clickEvent, this.hoverEvent, this.insertion);
+      return create(this.font, this.color, this.decorations, this.clickEvent, this.hoverEvent, this.insertion);
     }
 
     private boolean isEmpty() {
       return this.color == null
-        && this.decorations.values().stream().allMatch(state -> state == TextDecoration.State.NOT_SET)
+        && this.decorations == DecorationMap.EMPTY
         && this.clickEvent == null
         && this.hoverEvent == null
         && this.insertion == null
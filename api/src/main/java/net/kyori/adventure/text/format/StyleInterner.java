@@ -0,0 +1,87 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.format;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import net.kyori.adventure.internal.properties.AdventureProperties;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A bounded, lossy canonicalizing pool for {@link StyleImpl} instances.
+ *
+ * <p>Every slot holds a weak reference to the last style interned into it, so
+ * the pool never keeps a style alive and never grows past its capacity. Two
+ * equal styles hashing into the same slot will share an instance; a colliding
+ * style simply replaces the previous occupant.</p>
+ *
+ * <p>Interning is opt-in, and is enabled through {@link AdventureProperties#TEXT_STYLE_INTERNING}.</p>
+ */
+final class StyleInterner {
+  private static final int DEFAULT_CAPACITY = 1 << 12;
+  static final @Nullable StyleInterner INSTANCE = Boolean.TRUE.equals(AdventureProperties.TEXT_STYLE_INTERNING.value()) ? new StyleInterner(DEFAULT_CAPACITY) : null;
+
+  private final AtomicReferenceArray<WeakReference<StyleImpl>> slots;
+  private final int mask;
+
+  StyleInterner(final int capacity) {
+    if (capacity <= 0 || Integer.bitCount(capacity) != 1) throw new IllegalArgumentException("capacity must be a positive power of two, was " + capacity);
+    this.slots = new AtomicReferenceArray<>(capacity);
+    this.mask = capacity - 1;
+  }
+
+  /**
+   * Interns a style, if interning is enabled.
+   *
+   * @param style the style
+   * @return the canonical instance
+   */
+  static @NotNull StyleImpl maybeIntern(final @NotNull StyleImpl style) {
+    final StyleInterner interner = INSTANCE;
+    return interner == null ? style : interner.intern(style);
+  }
+
+  /**
+   * Gets the canonical instance for {@code style}.
+   *
+   * @param style the style
+   * @return an existing equal instance, or {@code style} itself
+   */
+  @NotNull StyleImpl intern(final @NotNull StyleImpl style) {
+    if (style.equals(StyleImpl.EMPTY)) return StyleImpl.EMPTY;
+    final int hash = style.hashCode();
+    // spread the higher bits into the index, as HashMap does
+    final int index = (hash ^ (hash >>> 16)) & this.mask;
+    final WeakReference<StyleImpl> reference = this.slots.get(index);
+    if (reference != null) {
+      final StyleImpl existing = reference.get();
+      if (existing != null && existing.equals(style)) {
+        return existing;
+      }
+    }
+    this.slots.set(index, new WeakReference<>(style));
+    return style;
+  }
+}
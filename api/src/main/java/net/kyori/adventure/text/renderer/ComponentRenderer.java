@@ -23,9 +23,15 @@
  */
 package net.kyori.adventure.text.renderer;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import net.kyori.adventure.text.Component;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
 
 /**
  * A component renderer.
@@ -44,6 +50,51 @@ public interface ComponentRenderer<C> {
    */
   @NotNull Component render(final @NotNull Component component, final @NotNull C context);
 
+  /**
+   * Renders a component once for each distinct context.
+   *
+   * <p>Contexts are compared using {@link Object#equals(Object)}, so a component broadcast to many viewers sharing a
+   * few contexts is only rendered once for each of them.</p>
+   *
+   * @param component the component
+   * @param contexts the contexts
+   * @return a map from each distinct context to the component rendered for it, in the order the contexts were first seen
+   * @since 4.18.0
+   */
+  default @NotNull @Unmodifiable Map<C, Component> renderAll(final @NotNull Component component, final @NotNull Iterable<? extends C> contexts) {
+    final Map<C, Component> rendered = new LinkedHashMap<>();
+    for (final C context : contexts) {
+      if (!rendered.containsKey(context)) {
+        rendered.put(context, this.render(component, context));
+      }
+    }
+    return Collections.unmodifiableMap(rendered);
+  }
+
+  /**
+   * Renders a component once for each distinct context, rendering each context as a separate task on {@code executor}.
+   *
+   * @param component the component
+   * @param contexts the contexts
+   * @param executor the executor to render on
+   * @return a future completed with a map from each distinct context to the component rendered for it, in the order the contexts were first seen
+   * @see #renderAll(Component, Iterable)
+   * @since 4.18.0
+   */
+  default @NotNull CompletableFuture<@Unmodifiable Map<C, Component>> renderAll(final @NotNull Component component, final @NotNull Iterable<? extends C> contexts, final @NotNull Executor executor) {
+    final Map<C, CompletableFuture<Component>> futures = new LinkedHashMap<>();
+    for (final C context : contexts) {
+      if (!futures.containsKey(context)) {
+        futures.put(context, CompletableFuture.supplyAsync(() -> this.render(component, context), executor));
+      }
+    }
+    return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+      final Map<C, Component> rendered = new LinkedHashMap<>();
+      futures.forEach((context, future) -> rendered.put(context, future.join()));
+      return Collections.unmodifiableMap(rendered);
+    });
+  }
+
   /**
    * Return a {@link ComponentRenderer} that takes a different context type.
    *
@@ -23,16 +23,18 @@
  */
 package net.kyori.adventure.text.renderer;
 
-import java.text.AttributedCharacterIterator;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
+import java.util.function.Function;
+import net.kyori.adventure.internal.TranslationTemplate;
 import net.kyori.adventure.text.BlockNBTComponent;
 import net.kyori.adventure.text.BuildableComponent;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.ComponentBuilder;
+import net.kyori.adventure.text.ComponentInternals;
 import net.kyori.adventure.text.EntityNBTComponent;
 import net.kyori.adventure.text.KeybindComponent;
 import net.kyori.adventure.text.NBTComponent;
@@ -60,6 +62,24 @@ import static java.util.Objects.requireNonNull;
  */
 public abstract class TranslatableComponentRenderer<C> extends AbstractComponentRenderer<C> {
   private static final Set<Style.Merge> MERGES = Style.Merge.merges(Style.Merge.COLOR, Style.Merge.DECORATIONS, Style.Merge.INSERTION, Style.Merge.FONT);
+  // whether a renderer class overrides any of the hooks used to rebuild a component
+  private static final ClassValue<Boolean> OVERRIDES_HOOKS = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(final Class<?> type) {
+      for (Class<?> current = type; current != TranslatableComponentRenderer.class; current = current.getSuperclass()) {
+        if (declares(current, "mergeStyle", Component.class, ComponentBuilder.class, Object.class)
+          || declares(current, "mergeStyleAndOptionallyDeepRender", Component.class, ComponentBuilder.class, Object.class)
+          || declares(current, "optionallyRenderChildrenAppendAndBuild", List.class, ComponentBuilder.class, Object.class)
+          || declares(current, "nbt", Object.class, NBTComponentBuilder.class, NBTComponent.class)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  };
+
+  // unchanged components are returned as they are, unless a subclass has customised how components are rebuilt
+  private final boolean reuseUnchanged = !OVERRIDES_HOOKS.get(this.getClass());
 
   /**
    * Creates a {@link TranslatableComponentRenderer} using the {@link Translator} to translate.
@@ -74,11 +94,26 @@ public abstract class TranslatableComponentRenderer<C> extends AbstractComponent
   public static @NotNull TranslatableComponentRenderer<Locale> usingTranslationSource(final @NotNull Translator source) {
     requireNonNull(source, "source");
     return new TranslatableComponentRenderer<Locale>() {
+      @Override
+      public @NotNull Component render(final @NotNull Component component, final @NotNull Locale context) {
+        // only translatable components are changed by this renderer, so trees without any can be returned as they are
+        if (!ComponentInternals.containsTranslatable(component)) return component;
+        return super.render(component, context);
+      }
+
       @Override
       protected @Nullable MessageFormat translate(final @NotNull String key, final @NotNull Locale context) {
         return source.translate(key, context);
       }
 
+      @Override
+      @Nullable TranslationTemplate template(final @NotNull String key, final @Nullable String fallback, final @NotNull Locale context) {
+        if (source instanceof TranslationTemplate.Source) {
+          return ((TranslationTemplate.Source) source).template(key, context);
+        }
+        return super.template(key, fallback, context);
+      }
+
       @Override
       protected @NotNull Component renderTranslatable(final @NotNull TranslatableComponent component, final @NotNull Locale context) {
         final TriState anyTranslations = source.hasAnyTranslations();
@@ -115,8 +150,19 @@ public abstract class TranslatableComponentRenderer<C> extends AbstractComponent
     return this.translate(key, context);
   }
 
+  // Gets a template for a translation, the format is used directly unless the source caches compiled templates
+  @Nullable TranslationTemplate template(final @NotNull String key, final @Nullable String fallback, final @NotNull C context) {
+    final @Nullable MessageFormat format = this.translate(key, fallback, context);
+    return format == null ? null : TranslationTemplate.uncompiled(format);
+  }
+
   @Override
   protected @NotNull Component renderBlockNbt(final @NotNull BlockNBTComponent component, final @NotNull C context) {
+    if (this.reuseUnchanged) {
+      return this.renderIfChanged(component, component.separator(), context, separator -> nbt(Component.blockNBT(), component, separator)
+        .pos(component.pos()));
+    }
+
     final BlockNBTComponent.Builder builder = this.nbt(context, Component.blockNBT(), component)
       .pos(component.pos());
     return this.mergeStyleAndOptionallyDeepRender(component, builder, context);
@@ -124,6 +170,11 @@ public abstract class TranslatableComponentRenderer<C> extends AbstractComponent
 
   @Override
   protected @NotNull Component renderEntityNbt(final @NotNull EntityNBTComponent component, final @NotNull C context) {
+    if (this.reuseUnchanged) {
+      return this.renderIfChanged(component, component.separator(), context, separator -> nbt(Component.entityNBT(), component, separator)
+        .selector(component.selector()));
+    }
+
     final EntityNBTComponent.Builder builder = this.nbt(context, Component.entityNBT(), component)
       .selector(component.selector());
     return this.mergeStyleAndOptionallyDeepRender(component, builder, context);
@@ -131,24 +182,36 @@ public abstract class TranslatableComponentRenderer<C> extends AbstractComponent
 
   @Override
   protected @NotNull Component renderStorageNbt(final @NotNull StorageNBTComponent component, final @NotNull C context) {
+    if (this.reuseUnchanged) {
+      return this.renderIfChanged(component, component.separator(), context, separator -> nbt(Component.storageNBT(), component, separator)
+        .storage(component.storage()));
+    }
+
     final StorageNBTComponent.Builder builder = this.nbt(context, Component.storageNBT(), component)
       .storage(component.storage());
     return this.mergeStyleAndOptionallyDeepRender(component, builder, context);
   }
 
   protected <O extends NBTComponent<O, B>, B extends NBTComponentBuilder<O, B>> B nbt(final @NotNull C context, final B builder, final O oldComponent) {
+    return nbt(builder, oldComponent, this.renderSeparator(oldComponent.separator(), context));
+  }
+
+  private static <O extends NBTComponent<O, B>, B extends NBTComponentBuilder<O, B>> B nbt(final B builder, final O oldComponent, final @Nullable Component separator) {
     builder
       .nbtPath(oldComponent.nbtPath())
       .interpret(oldComponent.interpret());
-    final @Nullable Component separator = oldComponent.separator();
     if (separator != null) {
-      builder.separator(this.render(separator, context));
+      builder.separator(separator);
     }
     return builder;
   }
 
   @Override
   protected @NotNull Component renderKeybind(final @NotNull KeybindComponent component, final @NotNull C context) {
+    if (this.reuseUnchanged) {
+      return this.renderIfChanged(component, null, context, separator -> Component.keybind().keybind(component.keybind()));
+    }
+
     final KeybindComponent.Builder builder = Component.keybind().keybind(component.keybind());
     return this.mergeStyleAndOptionallyDeepRender(component, builder, context);
   }
@@ -156,6 +219,13 @@ public abstract class TranslatableComponentRenderer<C> extends AbstractComponent
   @Override
   @SuppressWarnings("deprecation")
   protected @NotNull Component renderScore(final @NotNull ScoreComponent component, final @NotNull C context) {
+    if (this.reuseUnchanged) {
+      return this.renderIfChanged(component, null, context, separator -> Component.score()
+        .name(component.name())
+        .objective(component.objective())
+        .value(component.value()));
+    }
+
     final ScoreComponent.Builder builder = Component.score()
       .name(component.name())
       .objective(component.objective())
@@ -165,35 +235,59 @@ public abstract class TranslatableComponentRenderer<C> extends AbstractComponent
 
   @Override
   protected @NotNull Component renderSelector(final @NotNull SelectorComponent component, final @NotNull C context) {
-    final SelectorComponent.Builder builder = Component.selector().pattern(component.pattern());
+    if (this.reuseUnchanged) {
+      return this.renderIfChanged(component, component.separator(), context, separator -> Component.selector()
+        .pattern(component.pattern())
+        .separator(separator));
+    }
+
+    final SelectorComponent.Builder builder = Component.selector()
+      .pattern(component.pattern())
+      .separator(this.renderSeparator(component.separator(), context));
     return this.mergeStyleAndOptionallyDeepRender(component, builder, context);
   }
 
   @Override
   protected @NotNull Component renderText(final @NotNull TextComponent component, final @NotNull C context) {
+    if (this.reuseUnchanged) {
+      return this.renderIfChanged(component, null, context, separator -> Component.text().content(component.content()));
+    }
+
     final TextComponent.Builder builder = Component.text().content(component.content());
     return this.mergeStyleAndOptionallyDeepRender(component, builder, context);
   }
 
   @Override
-  @SuppressWarnings("JdkObsolete") // MessageFormat requires StringBuffer in its api
   protected @NotNull Component renderTranslatable(final @NotNull TranslatableComponent component, final @NotNull C context) {
-    final @Nullable MessageFormat format = this.translate(component.key(), component.fallback(), context);
-    if (format == null) {
+    final @Nullable TranslationTemplate template = this.template(component.key(), component.fallback(), context);
+    if (template == null) {
       // we don't have a translation for this component, but the arguments or children
       // of this component might need additional rendering
 
-      final TranslatableComponent.Builder builder = Component.translatable()
-        .key(component.key()).fallback(component.fallback());
-      if (!component.arguments().isEmpty()) {
-        final List<TranslationArgument> args = new ArrayList<>(component.arguments());
-        for (int i = 0, size = args.size(); i < size; i++) {
-          final TranslationArgument arg = args.get(i);
-          if (arg.value() instanceof Component) {
-            args.set(i, TranslationArgument.component(this.render(((Component) arg.value()), context)));
+      final List<TranslationArgument> arguments = component.arguments();
+      @Nullable List<TranslationArgument> renderedArguments = null;
+      for (int i = 0, size = arguments.size(); i < size; i++) {
+        final TranslationArgument arg = arguments.get(i);
+        if (arg.value() instanceof Component) {
+          final Component value = (Component) arg.value();
+          final Component rendered = this.render(value, context);
+          if (rendered != value) {
+            if (renderedArguments == null) {
+              renderedArguments = new ArrayList<>(arguments);
+            }
+            renderedArguments.set(i, TranslationArgument.component(rendered));
           }
         }
-        builder.arguments(args);
+      }
+      if (this.reuseUnchanged && renderedArguments == null) {
+        return this.renderIfChanged(component, null, context, separator -> Component.translatable()
+          .key(component.key()).fallback(component.fallback()).arguments(arguments));
+      }
+
+      final TranslatableComponent.Builder builder = Component.translatable()
+        .key(component.key()).fallback(component.fallback());
+      if (!arguments.isEmpty()) {
+        builder.arguments(renderedArguments == null ? arguments : renderedArguments);
       }
       return this.mergeStyleAndOptionallyDeepRender(component, builder, context);
     }
@@ -205,29 +299,26 @@ public abstract class TranslatableComponentRenderer<C> extends AbstractComponent
 
     // no arguments makes this render very simple
     if (args.isEmpty()) {
-      builder.content(format.format(null, new StringBuffer(), null).toString());
+      builder.content(template.text());
       return this.optionallyRenderChildrenAppendAndBuild(component.children(), builder, context);
     }
 
-    final Object[] nulls = new Object[args.size()];
-    final StringBuffer sb = format.format(nulls, new StringBuffer(), null);
-    final AttributedCharacterIterator it = format.formatToCharacterIterator(nulls);
+    template.splice(args.size(), new TranslationTemplate.Output() {
+      @Override
+      public void literal(final @NotNull String text) {
+        builder.append(Component.text(text));
+      }
 
-    while (it.getIndex() < it.getEndIndex()) {
-      final int end = it.getRunLimit();
-      final Integer index = (Integer) it.getAttribute(MessageFormat.Field.ARGUMENT);
-      if (index != null) {
+      @Override
+      public void argument(final int index) {
         final TranslationArgument arg = args.get(index);
         if (arg.value() instanceof Component) {
-          builder.append(this.render(arg.asComponent(), context));
+          builder.append(TranslatableComponentRenderer.this.render(arg.asComponent(), context));
         } else {
-          builder.append(arg.asComponent()); // todo: number rendering?
+          builder.append(Component.text(template.formatArgument(index, arg.value())));
         }
-      } else {
-        builder.append(Component.text(sb.substring(it.getIndex(), end)));
       }
-      it.setIndex(end);
-    }
+    });
 
     return this.optionallyRenderChildrenAppendAndBuild(component.children(), builder, context);
   }
@@ -244,12 +335,62 @@ public abstract class TranslatableComponentRenderer<C> extends AbstractComponent
     return builder.build();
   }
 
+  private @Nullable Component renderSeparator(final @Nullable Component separator, final C context) {
+    return separator == null ? null : this.render(separator, context);
+  }
+
+  private @Nullable HoverEvent<?> renderHoverEvent(final Component component, final C context) {
+    final @Nullable HoverEvent<?> hoverEvent = component.hoverEvent();
+    return hoverEvent == null ? null : hoverEvent.withRenderedValue(this, context);
+  }
+
+  // Renders each child, returning the original list if every child rendered to itself
+  private List<Component> renderChildren(final List<Component> children, final C context) {
+    @Nullable List<Component> rendered = null;
+    for (int i = 0, size = children.size(); i < size; i++) {
+      final Component child = children.get(i);
+      final Component renderedChild = this.render(child, context);
+      if (rendered == null) {
+        if (renderedChild == child) continue;
+        rendered = new ArrayList<>(size);
+        rendered.addAll(children.subList(0, i));
+      }
+      rendered.add(renderedChild);
+    }
+    return rendered == null ? children : rendered;
+  }
+
+  // Renders the separator, hover event and children of a component, only rebuilding it with the builder if any of them changed
+  private <O extends BuildableComponent<O, B>, B extends ComponentBuilder<O, B>> Component renderIfChanged(final Component component, final @Nullable Component separator, final C context, final Function<@Nullable Component, B> builder) {
+    final @Nullable Component renderedSeparator = this.renderSeparator(separator, context);
+    final @Nullable HoverEvent<?> hoverEvent = this.renderHoverEvent(component, context);
+    final List<Component> children = component.children();
+    final List<Component> renderedChildren = this.renderChildren(children, context);
+    if (renderedSeparator == separator && hoverEvent == component.hoverEvent() && renderedChildren == children) return component;
+
+    final B rebuilt = builder.apply(renderedSeparator);
+    mergeStyle(component, rebuilt, hoverEvent);
+    return rebuilt.append(renderedChildren).build();
+  }
+
   protected <B extends ComponentBuilder<?, ?>> void mergeStyle(final Component component, final B builder, final C context) {
+    mergeStyle(component, builder, this.renderHoverEvent(component, context));
+  }
+
+  private static void mergeStyle(final Component component, final ComponentBuilder<?, ?> builder, final @Nullable HoverEvent<?> hoverEvent) {
     builder.mergeStyle(component, MERGES);
     builder.clickEvent(component.clickEvent());
-    final @Nullable HoverEvent<?> hoverEvent = component.hoverEvent();
     if (hoverEvent != null) {
-      builder.hoverEvent(hoverEvent.withRenderedValue(this, context));
+      builder.hoverEvent(hoverEvent);
+    }
+  }
+
+  private static boolean declares(final Class<?> type, final String name, final Class<?>... parameterTypes) {
+    try {
+      type.getDeclaredMethod(name, parameterTypes);
+      return true;
+    } catch (final NoSuchMethodException e) {
+      return false;
     }
   }
 }
@@ -24,13 +24,18 @@
 package net.kyori.adventure.translation;
 
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.identity.Identity;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TranslatableComponent;
 import net.kyori.adventure.text.renderer.TranslatableComponentRenderer;
 import net.kyori.examination.Examinable;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
 
 /**
  * A global source of translations. The global source is the default source used by adventure platforms
@@ -87,16 +92,55 @@ public interface GlobalTranslator extends Translator, Examinable {
     return renderer().render(component, locale);
   }
 
+  /**
+   * Renders a component for each audience using the {@link #renderer() global renderer}, rendering it only once for
+   * each distinct {@link Identity#LOCALE locale}.
+   *
+   * <p>Audiences that do not provide a locale are rendered for the default translation locale.</p>
+   *
+   * @param component the component to render
+   * @param audiences the audiences to render for
+   * @param <A> the audience type
+   * @return a map from each audience to the component rendered for its locale, in the order of {@code audiences}
+   * @see net.kyori.adventure.text.renderer.ComponentRenderer#renderAll(Component, Iterable)
+   * @since 4.18.0
+   */
+  static <A extends Audience> @NotNull @Unmodifiable Map<A, Component> renderAll(final @NotNull Component component, final @NotNull Iterable<? extends A> audiences) {
+    final Map<A, Locale> locales = GlobalTranslatorImpl.locales(audiences);
+    return GlobalTranslatorImpl.byAudience(locales, renderer().renderAll(component, locales.values()));
+  }
+
+  /**
+   * Renders a component for each audience using the {@link #renderer() global renderer}, rendering it only once for
+   * each distinct {@link Identity#LOCALE locale} as a separate task on {@code executor}.
+   *
+   * <p>Audiences that do not provide a locale are rendered for the default translation locale.</p>
+   *
+   * @param component the component to render
+   * @param audiences the audiences to render for
+   * @param executor the executor to render on
+   * @param <A> the audience type
+   * @return a future completed with a map from each audience to the component rendered for its locale, in the order of {@code audiences}
+   * @see net.kyori.adventure.text.renderer.ComponentRenderer#renderAll(Component, Iterable, Executor)
+   * @since 4.18.0
+   */
+  static <A extends Audience> @NotNull CompletableFuture<@Unmodifiable Map<A, Component>> renderAll(final @NotNull Component component, final @NotNull Iterable<? extends A> audiences, final @NotNull Executor executor) {
+    final Map<A, Locale> locales = GlobalTranslatorImpl.locales(audiences);
+    return renderer().renderAll(component, locales.values(), executor).thenApply(rendered -> GlobalTranslatorImpl.byAudience(locales, rendered));
+  }
+
   /**
    * Gets the sources.
    *
+   * <p>Sources are returned in the order they are consulted, from highest to lowest priority.</p>
+   *
    * @return the sources
    * @since 4.0.0
    */
   @NotNull Iterable<? extends Translator> sources();
 
   /**
-   * Adds a translation source.
+   * Adds a translation source with the default priority of {@code 0}.
    *
    * <p>Duplicate sources will be ignored.</p>
    *
@@ -105,7 +149,25 @@ public interface GlobalTranslator extends Translator, Examinable {
    * @throws IllegalArgumentException if source is {@link GlobalTranslator}
    * @since 4.0.0
    */
-  boolean addSource(final @NotNull Translator source);
+  default boolean addSource(final @NotNull Translator source) {
+    return this.addSource(source, 0);
+  }
+
+  /**
+   * Adds a translation source with a priority.
+   *
+   * <p>Sources with a higher priority are consulted first. Sources with the same priority are consulted in the order
+   * they were added.</p>
+   *
+   * <p>Duplicate sources will be ignored.</p>
+   *
+   * @param source the source
+   * @param priority the priority
+   * @return {@code true} if registered, {@code false} otherwise
+   * @throws IllegalArgumentException if source is {@link GlobalTranslator}
+   * @since 4.18.0
+   */
+  boolean addSource(final @NotNull Translator source, final int priority);
 
   /**
    * Removes a translation source.
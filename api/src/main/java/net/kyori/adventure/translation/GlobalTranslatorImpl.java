@@ -24,11 +24,17 @@
 package net.kyori.adventure.translation;
 
 import java.text.MessageFormat;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Locale;
-import java.util.Set;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.internal.TranslationTemplate;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TranslatableComponent;
@@ -40,11 +46,15 @@ import org.jetbrains.annotations.Nullable;
 
 import static java.util.Objects.requireNonNull;
 
-final class GlobalTranslatorImpl implements GlobalTranslator {
+final class GlobalTranslatorImpl implements GlobalTranslator, TranslationTemplate.Source {
   private static final Key NAME = Key.key("adventure", "global");
+  private static final Source[] NO_SOURCES = new Source[0];
   static final GlobalTranslatorImpl INSTANCE = new GlobalTranslatorImpl();
   final TranslatableComponentRenderer<Locale> renderer = TranslatableComponentRenderer.usingTranslationSource(this);
-  private final Set<Translator> sources = Collections.newSetFromMap(new ConcurrentHashMap<>());
+  // copy-on-write, ordered by descending priority and then by insertion
+  private volatile Source[] sources = NO_SOURCES;
+  private volatile Index index = new Index(NO_SOURCES);
+  private final AtomicLong sourceModifications = new AtomicLong();
 
   private GlobalTranslatorImpl() {
   }
@@ -56,25 +66,62 @@ final class GlobalTranslatorImpl implements GlobalTranslator {
 
   @Override
   public @NotNull Iterable<? extends Translator> sources() {
-    return Collections.unmodifiableSet(this.sources);
+    final Source[] sources = this.sources;
+    final Translator[] translators = new Translator[sources.length];
+    for (int i = 0; i < sources.length; i++) {
+      translators[i] = sources[i].translator;
+    }
+    return Collections.unmodifiableList(Arrays.asList(translators));
   }
 
   @Override
-  public boolean addSource(final @NotNull Translator source) {
+  public synchronized boolean addSource(final @NotNull Translator source, final int priority) {
     requireNonNull(source, "source");
     if (source == this) throw new IllegalArgumentException("GlobalTranslationSource");
-    return this.sources.add(source);
+    final Source[] sources = this.sources;
+    int insert = sources.length;
+    for (int i = sources.length - 1; i >= 0; i--) {
+      if (sources[i].translator.equals(source)) return false;
+      if (sources[i].priority < priority) insert = i;
+    }
+    final Source[] newSources = new Source[sources.length + 1];
+    System.arraycopy(sources, 0, newSources, 0, insert);
+    newSources[insert] = new Source(source, priority);
+    System.arraycopy(sources, insert, newSources, insert + 1, sources.length - insert);
+    this.update(newSources);
+    return true;
   }
 
   @Override
-  public boolean removeSource(final @NotNull Translator source) {
+  public synchronized boolean removeSource(final @NotNull Translator source) {
     requireNonNull(source, "source");
-    return this.sources.remove(source);
+    final Source[] sources = this.sources;
+    for (int i = 0; i < sources.length; i++) {
+      if (sources[i].translator.equals(source)) {
+        final Source[] newSources = new Source[sources.length - 1];
+        System.arraycopy(sources, 0, newSources, 0, i);
+        System.arraycopy(sources, i + 1, newSources, i, newSources.length - i);
+        this.update(newSources);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void update(final Source[] sources) {
+    this.sources = sources;
+    this.index = new Index(sources);
+    this.sourceModifications.incrementAndGet();
+  }
+
+  // a stamp that changes whenever the sources, or the translations of any registry, have changed
+  long modifications() {
+    return this.sourceModifications.get() + TranslationRegistryImpl.modifications();
   }
 
   @Override
   public @NotNull TriState hasAnyTranslations() {
-    if (!this.sources.isEmpty()) {
+    if (this.sources.length != 0) {
       return TriState.TRUE;
     }
     return TriState.FALSE;
@@ -84,9 +131,31 @@ final class GlobalTranslatorImpl implements GlobalTranslator {
   public @Nullable MessageFormat translate(final @NotNull String key, final @NotNull Locale locale) {
     requireNonNull(key, "key");
     requireNonNull(locale, "locale");
-    for (final Translator source : this.sources) {
-      final MessageFormat translation = source.translate(key, locale);
-      if (translation != null) return translation;
+    for (final Translator source : this.candidates(key)) {
+      if (source instanceof TranslationTemplate.Source) {
+        // look up the shared template, so that only the format returned is copied
+        final TranslationTemplate template = ((TranslationTemplate.Source) source).template(key, locale);
+        if (template != null) return (MessageFormat) template.format().clone();
+      } else {
+        final MessageFormat translation = source.translate(key, locale);
+        if (translation != null) return translation;
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public @Nullable TranslationTemplate template(final @NotNull String key, final @NotNull Locale locale) {
+    requireNonNull(key, "key");
+    requireNonNull(locale, "locale");
+    for (final Translator source : this.candidates(key)) {
+      if (source instanceof TranslationTemplate.Source) {
+        final TranslationTemplate template = ((TranslationTemplate.Source) source).template(key, locale);
+        if (template != null) return template;
+      } else {
+        final MessageFormat translation = source.translate(key, locale);
+        if (translation != null) return TranslationTemplate.uncompiled(translation); // only used once, so not worth compiling
+      }
     }
     return null;
   }
@@ -95,15 +164,95 @@ final class GlobalTranslatorImpl implements GlobalTranslator {
   public @Nullable Component translate(final @NotNull TranslatableComponent component, final @NotNull Locale locale) {
     requireNonNull(component, "component");
     requireNonNull(locale, "locale");
-    for (final Translator source : this.sources) {
+    for (final Translator source : this.candidates(component.key())) {
       final Component translation = source.translate(component, locale);
       if (translation != null) return translation;
     }
     return null;
   }
 
+  private Translator[] candidates(final String key) {
+    Index index = this.index;
+    if (index.changed()) {
+      // a registry has changed since the index was built, so it may now contain keys it did not before
+      synchronized (this) {
+        index = this.index;
+        if (index.changed()) {
+          index = new Index(this.sources);
+          this.index = index;
+        }
+      }
+    }
+    return index.candidates(key);
+  }
+
+  static <A extends Audience> Map<A, Locale> locales(final Iterable<? extends A> audiences) {
+    final Locale fallback = TranslationLocales.global();
+    final Map<A, Locale> locales = new LinkedHashMap<>();
+    for (final A audience : audiences) {
+      locales.put(audience, audience.getOrDefault(Identity.LOCALE, fallback));
+    }
+    return locales;
+  }
+
+  static <A extends Audience> Map<A, Component> byAudience(final Map<A, Locale> locales, final Map<Locale, Component> rendered) {
+    final Map<A, Component> byAudience = new LinkedHashMap<>();
+    locales.forEach((audience, locale) -> byAudience.put(audience, rendered.get(locale)));
+    return Collections.unmodifiableMap(byAudience);
+  }
+
   @Override
   public @NotNull Stream<? extends ExaminableProperty> examinableProperties() {
-    return Stream.of(ExaminableProperty.of("sources", this.sources));
+    return Stream.of(ExaminableProperty.of("sources", this.sources()));
+  }
+
+  static final class Source {
+    final Translator translator;
+    final int priority;
+
+    Source(final Translator translator, final int priority) {
+      this.translator = translator;
+      this.priority = priority;
+    }
+  }
+
+  // The sources that may translate each key, so that registries which do not contain a key can be skipped
+  static final class Index {
+    final Translator[] translators;
+    // the changes made to all registries when the index was built
+    private final long modifications;
+    private final Map<String, Translator[]> candidates = new ConcurrentHashMap<>();
+
+    Index(final Source[] sources) {
+      // read before any keys are looked up, so changes made while the index is in use are always noticed
+      this.modifications = TranslationRegistryImpl.modifications();
+      this.translators = new Translator[sources.length];
+      for (int i = 0; i < sources.length; i++) {
+        this.translators[i] = sources[i].translator;
+      }
+    }
+
+    // a change to any registry, even one that is not a source, causes the index to be rebuilt
+    boolean changed() {
+      return TranslationRegistryImpl.modifications() != this.modifications;
+    }
+
+    Translator[] candidates(final String key) {
+      final Translator[] candidates = this.candidates.get(key);
+      if (candidates != null) return candidates;
+      return this.candidates.computeIfAbsent(key, this::filter);
+    }
+
+    private Translator[] filter(final String key) {
+      // only our own registries are known to never translate keys they do not contain
+      int count = 0;
+      final Translator[] candidates = new Translator[this.translators.length];
+      for (final Translator translator : this.translators) {
+        if (!(translator instanceof TranslationRegistryImpl) || ((TranslationRegistryImpl) translator).contains(key)) {
+          candidates[count++] = translator;
+        }
+      }
+      return count == candidates.length ? this.translators : Arrays.copyOf(candidates, count);
+    }
   }
 }
@@ -30,12 +30,14 @@ import org.jetbrains.annotations.Nullable;
 
 final class TranslationLocales {
   private static final Supplier<Locale> GLOBAL;
+  private static final boolean SYSTEM;
 
   static {
     final @Nullable String property = AdventureProperties.DEFAULT_TRANSLATION_LOCALE.value();
+    SYSTEM = "system".equals(property);
     if (property == null || property.isEmpty()) {
       GLOBAL = () -> Locale.US;
-    } else if (property.equals("system")) {
+    } else if (SYSTEM) {
       GLOBAL = Locale::getDefault;
     } else {
       final Locale locale = Translator.parseLocale(property);
@@ -49,4 +51,9 @@ final class TranslationLocales {
   static Locale global() {
     return GLOBAL.get();
   }
+
+  // whether the global locale follows the system locale, and so may change at any time
+  static boolean followsSystem() {
+    return SYSTEM;
+  }
 }
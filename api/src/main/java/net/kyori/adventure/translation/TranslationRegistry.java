@@ -29,6 +29,9 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.PropertyResourceBundle;
@@ -36,6 +39,7 @@ import java.util.ResourceBundle;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.util.UTF8ResourceBundleControl;
 import org.jetbrains.annotations.NotNull;
@@ -84,6 +88,8 @@ public interface TranslationRegistry extends Translator {
    *
    * <p>If a translation for {@code locale} is not found, we will then try {@code locale} without a country code, and then finally fallback to a default locale.</p>
    *
+   * <p>As {@link MessageFormat} is not thread-safe, each call returns a new copy of the registered format.</p>
+   *
    * @param locale a locale
    * @param key a translation key
    * @return a message format or {@code null} to skip translation
@@ -108,6 +114,8 @@ public interface TranslationRegistry extends Translator {
    *   registry.register("example.hello", Locale.US, new MessageFormat("Hi, {0}. How are you?"));
    * </pre>
    *
+   * <p>The registry keeps its own copy of {@code format}, so later changes to it will not affect the translation.</p>
+   *
    * @param key a translation key
    * @param locale a locale
    * @param format a translation format
@@ -116,6 +124,23 @@ public interface TranslationRegistry extends Translator {
    */
   void register(final @NotNull String key, final @NotNull Locale locale, final @NotNull MessageFormat format);
 
+  /**
+   * Registers a translation from a {@link MessageFormat} pattern.
+   *
+   * <p>Registries created by {@link #create(Key)} keep the pattern as it is, and only create a format from it the first
+   * time the translation is used. The structure of the pattern is still checked when it is registered, but an invalid
+   * style for an argument, such as {@code {0,number,#.#.#}}, is only reported by attempts to translate it.</p>
+   *
+   * @param key a translation key
+   * @param locale a locale
+   * @param pattern a message format pattern
+   * @throws IllegalArgumentException if the translation key already exists, or the pattern is malformed
+   * @since 4.18.0
+   */
+  default void registerPattern(final @NotNull String key, final @NotNull Locale locale, final @NotNull String pattern) {
+    this.register(key, locale, new MessageFormat(pattern, locale));
+  }
+
   /**
    * Registers a map of translations.
    *
@@ -186,6 +211,59 @@ public interface TranslationRegistry extends Translator {
     });
   }
 
+  /**
+   * Registers the resource bundles of translations for many locales.
+   *
+   * <p>The bundle for each locale is loaded using {@link UTF8ResourceBundleControl}. The bundles are loaded in parallel,
+   * and then registered on the calling thread. Translations are registered as {@link #registerPattern(String, Locale, String) patterns},
+   * so registries created by {@link #create(Key)} only create a format for a translation the first time it is used.</p>
+   *
+   * <pre>
+   *   registry.registerAll("my_bundle", MyPlugin.class.getClassLoader(), Arrays.asList(Locale.US, Locale.GERMANY), false);
+   * </pre>
+   *
+   * @param baseName the base name of the resource bundle
+   * @param loader the class loader to load the resource bundle from
+   * @param locales the locales to load
+   * @param escapeSingleQuotes whether to escape single quotes
+   * @throws IllegalArgumentException if a translation key already exists
+   * @throws java.util.MissingResourceException if no resource bundle can be found for a locale
+   * @since 4.18.0
+   */
+  default void registerAll(final @NotNull String baseName, final @NotNull ClassLoader loader, final @NotNull Collection<Locale> locales, final boolean escapeSingleQuotes) {
+    requireNonNull(baseName, "baseName");
+    requireNonNull(loader, "loader");
+    final List<Locale> ordered = new ArrayList<>(locales);
+    // only loading is done in parallel, as implementations are not required to support concurrent registration
+    final List<ResourceBundle> bundles = ordered.parallelStream()
+      .map(locale -> ResourceBundle.getBundle(baseName, locale, loader, UTF8ResourceBundleControl.get()))
+      .collect(Collectors.toList());
+    IllegalArgumentException firstError = null;
+    int errorCount = 0;
+    for (int i = 0; i < bundles.size(); i++) {
+      final Locale locale = ordered.get(i);
+      final ResourceBundle bundle = bundles.get(i);
+      for (final String key : bundle.keySet()) {
+        final String pattern = bundle.getString(key);
+        try {
+          this.registerPattern(key, locale, escapeSingleQuotes ? SINGLE_QUOTE_PATTERN.matcher(pattern).replaceAll("''") : pattern);
+        } catch (final IllegalArgumentException e) {
+          if (firstError == null) {
+            firstError = e;
+          }
+          errorCount++;
+        }
+      }
+    }
+    if (firstError != null) {
+      if (errorCount == 1) {
+        throw firstError;
+      } else {
+        throw new IllegalArgumentException(String.format("Invalid key (and %d more)", errorCount - 1), firstError);
+      }
+    }
+  }
+
   /**
    * Registers a resource bundle of translations.
    *
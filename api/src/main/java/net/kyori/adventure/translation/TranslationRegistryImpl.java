@@ -27,9 +27,13 @@ import java.text.MessageFormat;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 import net.kyori.adventure.internal.Internals;
+import net.kyori.adventure.internal.TranslationTemplate;
+import net.kyori.adventure.internal.properties.AdventureProperties;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.util.TriState;
 import net.kyori.examination.Examinable;
@@ -39,23 +43,57 @@ import org.jetbrains.annotations.Nullable;
 
 import static java.util.Objects.requireNonNull;
 
-final class TranslationRegistryImpl implements Examinable, TranslationRegistry {
+final class TranslationRegistryImpl implements Examinable, TranslationRegistry, TranslationTemplate.Source {
+  private static final boolean LOCALE_TABLES = Boolean.TRUE.equals(AdventureProperties.TRANSLATION_LOCALE_TABLES.value());
+  // incremented after the translations of any registry change
+  private static final AtomicLong MODIFICATIONS = new AtomicLong();
+  // the most requested locales remembered before they are forgotten, as any locale can be requested
+  private static final int MAX_RESOLVED_LOCALES = 256;
+
   private final Key name;
   private final Map<String, Translation> translations = new ConcurrentHashMap<>();
-  private Locale defaultLocale = Locale.US; // en_us
+  private volatile Locale defaultLocale = Locale.US; // en_us
+  private final boolean localeTables;
+  // every locale a translation has been registered for, so that tables are only kept for those locales
+  private final Set<Locale> locales = ConcurrentHashMap.newKeySet();
+  // tables are built, updated and discarded while holding their lock, but can be read without it
+  private final Map<Locale, LocaleTable> tables = new ConcurrentHashMap<>();
+  // the table for locales that neither have translations nor share a language with any that do
+  private volatile @Nullable LocaleTable fallbackTable;
+  // the table each requested locale resolves to, so that finding a table is a single lookup
+  private final Map<Locale, LocaleTable> resolvedTables = new ConcurrentHashMap<>();
 
   TranslationRegistryImpl(final Key name) {
+    this(name, LOCALE_TABLES);
+  }
+
+  TranslationRegistryImpl(final Key name, final boolean localeTables) {
     this.name = name;
+    this.localeTables = localeTables;
   }
 
   @Override
   public void register(final @NotNull String key, final @NotNull Locale locale, final @NotNull MessageFormat format) {
     this.translations.computeIfAbsent(key, Translation::new).register(locale, format);
+    MODIFICATIONS.incrementAndGet();
+    this.addLocale(locale);
+    this.updateTables(key);
+  }
+
+  @Override
+  public void registerPattern(final @NotNull String key, final @NotNull Locale locale, final @NotNull String pattern) {
+    Entry.validate(requireNonNull(pattern, "pattern"));
+    this.translations.computeIfAbsent(key, Translation::new).registerPattern(locale, pattern);
+    MODIFICATIONS.incrementAndGet();
+    this.addLocale(locale);
+    this.updateTables(key);
   }
 
   @Override
   public void unregister(final @NotNull String key) {
     this.translations.remove(key);
+    MODIFICATIONS.incrementAndGet();
+    this.updateTables(key);
   }
 
   @Override
@@ -78,14 +116,110 @@ final class TranslationRegistryImpl implements Examinable, TranslationRegistry {
 
   @Override
   public @Nullable MessageFormat translate(final @NotNull String key, final @NotNull Locale locale) {
+    final TranslationTemplate template = this.template(key, locale);
+    if (template == null) return null;
+    return (MessageFormat) template.format().clone();
+  }
+
+  @Override
+  public @Nullable TranslationTemplate template(final @NotNull String key, final @NotNull Locale locale) {
+    if (this.localeTables) {
+      final Entry entry = this.table(requireNonNull(locale, "locale")).entries.get(requireNonNull(key, "key"));
+      return entry == null ? null : entry.template();
+    }
     final Translation translation = this.translations.get(key);
     if (translation == null) return null;
-    return translation.translate(locale);
+    return translation.template(locale);
   }
 
   @Override
   public void defaultLocale(final @NotNull Locale defaultLocale) {
     this.defaultLocale = requireNonNull(defaultLocale, "defaultLocale");
+    MODIFICATIONS.incrementAndGet();
+    if (this.localeTables) {
+      synchronized (this.tables) {
+        this.tables.clear();
+        this.fallbackTable = null;
+        this.resolvedTables.clear();
+      }
+    }
+  }
+
+  // the number of changes made to all registries, which can be compared to tell if a registry may have changed
+  static long modifications() {
+    return MODIFICATIONS.get();
+  }
+
+  private LocaleTable table(final Locale locale) {
+    final @Nullable LocaleTable table = this.resolvedTables.get(locale);
+    // the global default locale may follow the system locale, so tables are rebuilt if it has changed
+    if (table != null && (!TranslationLocales.followsSystem() || table.global.equals(TranslationLocales.global()))) {
+      return table;
+    }
+    return this.resolveTable(locale);
+  }
+
+  private LocaleTable resolveTable(final Locale locale) {
+    synchronized (this.tables) {
+      final @Nullable Locale resolved = this.resolve(locale);
+      final Locale global = TranslationLocales.global();
+      LocaleTable table = resolved == null ? this.fallbackTable : this.tables.get(resolved);
+      if (table == null || !table.global.equals(global)) {
+        table = new LocaleTable(resolved, global);
+        if (resolved == null) {
+          this.fallbackTable = table;
+        } else {
+          this.tables.put(resolved, table);
+        }
+      }
+      if (this.resolvedTables.size() >= MAX_RESOLVED_LOCALES) {
+        this.resolvedTables.clear();
+      }
+      this.resolvedTables.put(locale, table);
+      return table;
+    }
+  }
+
+  // the number of tables, including the fallback table
+  int tableCount() {
+    return this.tables.size() + (this.fallbackTable == null ? 0 : 1);
+  }
+
+  // the number of requested locales whose table is remembered
+  int resolvedTableCount() {
+    return this.resolvedTables.size();
+  }
+
+  // Gets the locale whose table translates a locale: a locale only differs from the fallback table if translations
+  // exist for it or for its language, so there is at most one table for each locale translations are registered for.
+  private @Nullable Locale resolve(final Locale locale) {
+    if (this.locales.contains(locale)) return locale;
+    final Locale language = new Locale(locale.getLanguage());
+    if (this.locales.contains(language)) return language;
+    return null;
+  }
+
+  private void addLocale(final Locale locale) {
+    // a new locale can change which table other locales resolve to
+    if (this.locales.add(locale) && this.localeTables) {
+      synchronized (this.tables) {
+        this.resolvedTables.clear();
+      }
+    }
+  }
+
+  private void updateTables(final String key) {
+    if (!this.localeTables) return;
+    synchronized (this.tables) {
+      final @Nullable Translation translation = this.translations.get(key);
+      for (final LocaleTable table : this.tables.values()) {
+        table.update(key, translation);
+      }
+      final @Nullable LocaleTable fallbackTable = this.fallbackTable;
+      if (fallbackTable != null) {
+        fallbackTable.update(key, translation);
+      }
+    }
   }
 
   @Override
@@ -115,40 +249,83 @@ final class TranslationRegistryImpl implements Examinable, TranslationRegistry {
     return Internals.toString(this);
   }
 
+  // Every translation resolved for a single locale, with the fallback chain already applied
+  final class LocaleTable {
+    private final @Nullable Locale locale;
+    final Locale global;
+    final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    LocaleTable(final @Nullable Locale locale, final Locale global) {
+      this.locale = locale;
+      this.global = global;
+      for (final Translation translation : TranslationRegistryImpl.this.translations.values()) {
+        this.update(translation.key, translation);
+      }
+    }
+
+    void update(final String key, final @Nullable Translation translation) {
+      final @Nullable Entry entry = translation == null ? null : translation.entry(this.locale, this.global);
+      if (entry == null) {
+        this.entries.remove(key);
+      } else {
+        this.entries.put(key, entry);
+      }
+    }
+  }
+
   final class Translation implements Examinable {
     private final String key;
-    private final Map<Locale, MessageFormat> formats;
+    private final Map<Locale, Entry> entries;
 
     Translation(final @NotNull String key) {
       this.key = requireNonNull(key, "translation key");
-      this.formats = new ConcurrentHashMap<>();
+      this.entries = new ConcurrentHashMap<>();
     }
 
     void register(final @NotNull Locale locale, final @NotNull MessageFormat format) {
-      if (this.formats.putIfAbsent(requireNonNull(locale, "locale"), requireNonNull(format, "message format")) != null) {
+      // MessageFormat is mutable and not thread-safe, so we keep a private copy that is only read to compile the
+      // template, and hand out copies of it from translate(). Rendering only ever reads the immutable template.
+      final MessageFormat copy = (MessageFormat) requireNonNull(format, "message format").clone();
+      this.register(locale, new Entry(TranslationTemplate.compile(copy)));
+    }
+
+    void registerPattern(final @NotNull Locale locale, final @NotNull String pattern) {
+      this.register(locale, new Entry(requireNonNull(pattern, "pattern"), requireNonNull(locale, "locale")));
+    }
+
+    private void register(final @NotNull Locale locale, final @NotNull Entry entry) {
+      if (this.entries.putIfAbsent(requireNonNull(locale, "locale"), entry) != null) {
         throw new IllegalArgumentException(String.format("Translation already exists: %s for %s", this.key, locale));
       }
     }
 
-    @Nullable MessageFormat translate(final @NotNull Locale locale) {
-      MessageFormat format = this.formats.get(requireNonNull(locale, "locale"));
-      if (format == null) {
-        format = this.formats.get(new Locale(locale.getLanguage())); // try without country
-        if (format == null) {
-          format = this.formats.get(TranslationRegistryImpl.this.defaultLocale); // try local default locale
-          if (format == null) {
-            format = this.formats.get(TranslationLocales.global()); // try global default locale
+    @Nullable TranslationTemplate template(final @NotNull Locale locale) {
+      final Entry entry = this.entry(requireNonNull(locale, "locale"), TranslationLocales.global());
+      return entry == null ? null : entry.template();
+    }
+
+    // a null locale skips straight to the default locales
+    @Nullable Entry entry(final @Nullable Locale locale, final @NotNull Locale global) {
+      Entry entry = locale == null ? null : this.entries.get(locale);
+      if (entry == null) {
+        if (locale != null) {
+          entry = this.entries.get(new Locale(locale.getLanguage())); // try without country
+        }
+        if (entry == null) {
+          entry = this.entries.get(TranslationRegistryImpl.this.defaultLocale); // try local default locale
+          if (entry == null) {
+            entry = this.entries.get(global); // try global default locale
           }
         }
       }
-      return format;
+      return entry;
     }
 
     @Override
     public @NotNull Stream<? extends ExaminableProperty> examinableProperties() {
       return Stream.of(
         ExaminableProperty.of("key", this.key),
-        ExaminableProperty.of("formats", this.formats)
+        ExaminableProperty.of("formats", this.entries)
       );
     }
 
@@ -158,12 +335,12 @@ final class TranslationRegistryImpl implements Examinable, TranslationRegistry {
       if (!(other instanceof Translation)) return false;
       final Translation that = (Translation) other;
       return this.key.equals(that.key) &&
-        this.formats.equals(that.formats);
+        this.entries.equals(that.entries);
     }
 
     @Override
     public int hashCode() {
-      return Objects.hash(this.key, this.formats);
+      return Objects.hash(this.key, this.entries);
     }
 
     @Override
@@ -171,4 +348,139 @@ final class TranslationRegistryImpl implements Examinable, TranslationRegistry {
       return Internals.toString(this);
     }
   }
+
+  // A translation for a single locale, either compiled when registered or from a pattern compiled when first used
+  static final class Entry {
+    private final @Nullable String pattern;
+    private final @Nullable Locale locale;
+    private volatile @Nullable TranslationTemplate template;
+    // kept so that a pattern that fails to compile is only parsed once, however many times it is used
+    private volatile @Nullable IllegalArgumentException failure;
+
+    Entry(final TranslationTemplate template) {
+      this.pattern = null;
+      this.locale = null;
+      this.template = template;
+    }
+
+    Entry(final String pattern, final Locale locale) {
+      this.pattern = pattern;
+      this.locale = locale;
+    }
+
+    TranslationTemplate template() {
+      TranslationTemplate template = this.template;
+      if (template == null) {
+        IllegalArgumentException failure = this.failure;
+        if (failure == null) {
+          // compiling is idempotent, so racing threads may both compile but will produce equal templates
+          try {
+            template = TranslationTemplate.compile(new MessageFormat(this.pattern, this.locale));
+            this.template = template;
+            return template;
+          } catch (final IllegalArgumentException e) {
+            failure = e;
+            this.failure = e;
+          }
+        }
+        // a new exception for each use, so that each has the stack trace of the render that failed
+        throw new IllegalArgumentException(String.format("Invalid translation pattern for %s: %s", this.locale, this.pattern), failure);
+      }
+      return template;
+    }
+
+    // Checks the structure of a pattern as MessageFormat parses it, without creating any formats. Only an invalid
+    // style for a number, date or choice format can still fail, once the pattern is compiled.
+    static void validate(final String pattern) {
+      int part = 0;
+      boolean inQuote = false;
+      int braces = 0;
+      final StringBuilder argument = new StringBuilder();
+      final StringBuilder type = new StringBuilder();
+      for (int i = 0, length = pattern.length(); i < length; i++) {
+        final char c = pattern.charAt(i);
+        if (part == 0) {
+          if (c == '\'') {
+            if (i + 1 < length && pattern.charAt(i + 1) == '\'') {
+              i++;
+            } else {
+              inQuote = !inQuote;
+            }
+          } else if (c == '{' && !inQuote) {
+            part = 1;
+            argument.setLength(0);
+            type.setLength(0);
+          }
+        } else if (c == ',' && !inQuote && part < 3) {
+          part++;
+        } else if (c == '}' && !inQuote && braces == 0) {
+          part = 0;
+          validateArgument(pattern, argument.toString(), type.toString());
+        } else {
+          if (inQuote) {
+            if (c == '\'') inQuote = false;
+          } else if (c == '\'') {
+            inQuote = true;
+          } else if (c == '{') {
+            braces++;
+          } else if (c == '}') {
+            braces--;
+          }
+          if (part == 1) {
+            argument.append(c);
+          } else if (part == 2 && (c != ' ' || type.length() > 0)) {
+            type.append(c);
+          }
+        }
+      }
+      if (braces == 0 && part != 0) {
+        throw new IllegalArgumentException("Unmatched braces in the pattern: " + pattern);
+      }
+    }
+
+    private static void validateArgument(final String pattern, final String argument, final String type) {
+      final int index;
+      try {
+        index = Integer.parseInt(argument);
+      } catch (final NumberFormatException e) {
+        throw new IllegalArgumentException("Can't parse argument number '" + argument + "' in the pattern: " + pattern, e);
+      }
+      if (index < 0) {
+        throw new IllegalArgumentException("Negative argument number " + index + " in the pattern: " + pattern);
+      }
+      switch (type.trim().toLowerCase(Locale.ROOT)) {
+        case "":
+        case "number":
+        case "date":
+        case "time":
+        case "choice":
+          return;
+        default:
+          throw new IllegalArgumentException("Unknown format type '" + type + "' in the pattern: " + pattern);
+      }
+    }
+
+    // patterns are compared as they are, so that comparing never compiles them
+    @Override
+    public boolean equals(final Object other) {
+      if (this == other) return true;
+      if (!(other instanceof Entry)) return false;
+      final Entry that = (Entry) other;
+      if (this.pattern != null || that.pattern != null) {
+        return Objects.equals(this.pattern, that.pattern) && Objects.equals(this.locale, that.locale);
+      }
+      return this.template().format().equals(that.template().format());
+    }
+
+    @Override
+    public int hashCode() {
+      return this.pattern != null ? Objects.hash(this.pattern, this.locale) : this.template().format().hashCode();
+    }
+
+    @Override
+    public String toString() {
+      final TranslationTemplate template = this.template;
+      return template == null ? String.valueOf(this.pattern) : template.toString();
+    }
+  }
 }
@@ -0,0 +1,102 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.translation;
+
+import java.util.Locale;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.renderer.ComponentRenderer;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A renderer that caches the results of rendering components with the {@link GlobalTranslator#renderer() global renderer}.
+ *
+ * <p>Rendered components are cached by the component and locale they were rendered from, and the least recently used
+ * entries are evicted once the cache is full. Components that contain no translatable components are returned as they
+ * are, and are neither cached nor counted as hits or misses.</p>
+ *
+ * <p>The cache is cleared whenever a source is added to or removed from the {@link GlobalTranslator}, or a translation
+ * is registered or unregistered in any {@link TranslationRegistry#create(net.kyori.adventure.key.Key) registry}.
+ * Changes to other kinds of {@link Translator} cannot be seen, and require the cache to be {@link #clear() cleared}
+ * manually.</p>
+ *
+ * @since 4.18.0
+ */
+@ApiStatus.NonExtendable
+public interface TranslationRenderCache extends ComponentRenderer<Locale> {
+  /**
+   * Creates a new render cache.
+   *
+   * @param maximumSize the maximum number of rendered components to hold
+   * @return a new render cache
+   * @throws IllegalArgumentException if {@code maximumSize} is not positive
+   * @since 4.18.0
+   */
+  static @NotNull TranslationRenderCache create(final int maximumSize) {
+    if (maximumSize <= 0) throw new IllegalArgumentException("maximumSize must be positive, was " + maximumSize);
+    return new TranslationRenderCacheImpl(GlobalTranslatorImpl.INSTANCE, maximumSize);
+  }
+
+  /**
+   * Renders a component, returning a cached result if the component has already been rendered for the locale.
+   *
+   * @param component the component
+   * @param context the locale
+   * @return the rendered component
+   * @since 4.18.0
+   */
+  @Override
+  @NotNull Component render(final @NotNull Component component, final @NotNull Locale context);
+
+  /**
+   * Gets the number of rendered components currently held.
+   *
+   * @return the size
+   * @since 4.18.0
+   */
+  int size();
+
+  /**
+   * Gets the number of renders that were answered from the cache.
+   *
+   * @return the number of hits
+   * @since 4.18.0
+   */
+  long hits();
+
+  /**
+   * Gets the number of renders that were not answered from the cache.
+   *
+   * @return the number of misses
+   * @since 4.18.0
+   */
+  long misses();
+
+  /**
+   * Removes all rendered components from the cache.
+   *
+   * @since 4.18.0
+   */
+  void clear();
+}
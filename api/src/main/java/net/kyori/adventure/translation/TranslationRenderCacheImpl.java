@@ -0,0 +1,178 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.translation;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentInternals;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+final class TranslationRenderCacheImpl implements TranslationRenderCache {
+  private final GlobalTranslatorImpl translator;
+  private final int maximumSize;
+  // once full, entries are evicted in batches, so that a sort is only needed every few misses
+  private final int evictedSize;
+  private final Map<CacheKey, Entry> entries = new ConcurrentHashMap<>();
+  // orders accesses, so that the least recently used entries can be found
+  private final AtomicLong clock = new AtomicLong();
+  // only ever advanced, so a render that read an older value can not clear entries rendered after a newer one
+  private final AtomicLong modifications;
+  private final Object evictionLock = new Object();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  TranslationRenderCacheImpl(final GlobalTranslatorImpl translator, final int maximumSize) {
+    this.translator = translator;
+    this.maximumSize = maximumSize;
+    this.evictedSize = maximumSize - maximumSize / 8;
+    this.modifications = new AtomicLong(translator.modifications());
+  }
+
+  @Override
+  public @NotNull Component render(final @NotNull Component component, final @NotNull Locale context) {
+    requireNonNull(component, "component");
+    requireNonNull(context, "context");
+    // nothing to translate, so the component renders to itself and is not worth a slot in the cache
+    if (!ComponentInternals.containsTranslatable(component)) return component;
+    final CacheKey key = new CacheKey(component, context);
+    // read before rendering, so a result rendered while the translations change is never cached for the new translations
+    final long modifications = this.translator.modifications();
+    this.advance(modifications);
+    final @Nullable Entry entry = this.entries.get(key);
+    // entries rendered from other translations are left to be replaced, or evicted
+    if (entry != null && entry.modifications == modifications) {
+      entry.accessed = this.clock.incrementAndGet();
+      this.hits.increment();
+      return entry.rendered;
+    }
+    this.misses.increment();
+    final Component rendered = this.translator.renderer.render(component, context);
+    if (this.modifications.get() == modifications) {
+      this.entries.put(key, new Entry(rendered, modifications, this.clock.incrementAndGet()));
+      if (this.entries.size() > this.maximumSize) {
+        this.evict();
+      }
+    }
+    return rendered;
+  }
+
+  private void advance(final long modifications) {
+    long current;
+    while (modifications > (current = this.modifications.get())) {
+      if (this.modifications.compareAndSet(current, modifications)) {
+        this.entries.clear();
+        return;
+      }
+    }
+  }
+
+  private void evict() {
+    synchronized (this.evictionLock) {
+      final int size = this.entries.size();
+      if (size <= this.maximumSize) return; // already evicted by another render
+      // copy the access times first, as they may change while sorting
+      final long[] accessed = new long[size];
+      int count = 0;
+      for (final Entry entry : this.entries.values()) {
+        if (count == accessed.length) break;
+        accessed[count++] = entry.accessed;
+      }
+      final int evicted = count - this.evictedSize;
+      if (evicted <= 0) return;
+      Arrays.sort(accessed, 0, count);
+      // entries accessed since they were copied are newer than the threshold, and are kept
+      final long threshold = accessed[evicted - 1];
+      for (final Iterator<Entry> it = this.entries.values().iterator(); it.hasNext(); ) {
+        if (it.next().accessed <= threshold) {
+          it.remove();
+        }
+      }
+    }
+  }
+
+  @Override
+  public int size() {
+    return this.entries.size();
+  }
+
+  @Override
+  public long hits() {
+    return this.hits.sum();
+  }
+
+  @Override
+  public long misses() {
+    return this.misses.sum();
+  }
+
+  @Override
+  public void clear() {
+    this.entries.clear();
+  }
+
+  static final class Entry {
+    final Component rendered;
+    final long modifications;
+    volatile long accessed;
+
+    Entry(final Component rendered, final long modifications, final long accessed) {
+      this.rendered = rendered;
+      this.modifications = modifications;
+      this.accessed = accessed;
+    }
+  }
+
+  // Components are immutable, and cache their hash codes, so they make cheap keys
+  static final class CacheKey {
+    private final Component component;
+    private final Locale locale;
+
+    CacheKey(final Component component, final Locale locale) {
+      this.component = component;
+      this.locale = locale;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if (this == other) return true;
+      if (!(other instanceof CacheKey)) return false;
+      final CacheKey that = (CacheKey) other;
+      return this.locale.equals(that.locale) && this.component.equals(that.component);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * this.component.hashCode() + this.locale.hashCode();
+    }
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.audience;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.title.Title;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncForwardingAudienceTest {
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    this.executor = Executors.newFixedThreadPool(4);
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    this.executor.shutdown();
+    assertTrue(this.executor.awaitTermination(10, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void testBroadcast() throws Exception {
+    final List<Component> received = Collections.synchronizedList(new ArrayList<>());
+    final List<Audience> audiences = new ArrayList<>();
+    for (int i = 0; i < 100; i++) audiences.add(new RecordingAudience(received, false));
+    final AsyncForwardingAudience audience = AsyncForwardingAudience.asyncAudience(this.executor, 8, audiences);
+    assertNull(audience.broadcast(member -> member.sendMessage(Component.text("hi"))).get(10, TimeUnit.SECONDS));
+    assertThat(received).hasSize(100);
+  }
+
+  @Test
+  void testBroadcastEmpty() throws Exception {
+    assertNull(AsyncForwardingAudience.asyncAudience(this.executor, Collections.emptyList()).broadcast(member -> member.sendMessage(Component.text("hi"))).get());
+  }
+
+  @Test
+  void testBroadcastIsolatesFailures() {
+    final List<Component> received = Collections.synchronizedList(new ArrayList<>());
+    final List<Audience> audiences = new ArrayList<>();
+    for (int i = 0; i < 10; i++) audiences.add(new RecordingAudience(received, i % 3 == 0));
+    final AsyncForwardingAudience audience = AsyncForwardingAudience.asyncAudience(this.executor, 2, audiences);
+    final ExecutionException thrown = assertThrows(ExecutionException.class, () -> audience.broadcast(member -> member.sendMessage(Component.text("hi"))).get(10, TimeUnit.SECONDS));
+    final BroadcastException cause = assertInstanceOf(BroadcastException.class, thrown.getCause());
+    assertThat(cause.failures().keySet()).containsExactly(audiences.get(0), audiences.get(3), audiences.get(6), audiences.get(9));
+    assertThat(received).hasSize(6);
+  }
+
+  @Test
+  void testBroadcastRejected() {
+    final List<Component> received = Collections.synchronizedList(new ArrayList<>());
+    final Audience member = new RecordingAudience(received, false);
+    this.executor.shutdown();
+    final AsyncForwardingAudience audience = AsyncForwardingAudience.asyncAudience(this.executor, Collections.singletonList(member));
+    final ExecutionException thrown = assertThrows(ExecutionException.class, () -> audience.broadcast(a -> a.sendMessage(Component.text("hi"))).get());
+    assertThat(((BroadcastException) thrown.getCause()).failures().keySet()).containsExactly(member);
+    assertThat(received).isEmpty();
+  }
+
+  @Test
+  void testAudienceMethodsUseExecutor() {
+    final List<Component> received = Collections.synchronizedList(new ArrayList<>());
+    final AsyncForwardingAudience audience = AsyncForwardingAudience.asyncAudience(Runnable::run, Collections.singletonList(new RecordingAudience(received, false)));
+    audience.sendMessage(Component.text("hi"));
+    assertThat(received).containsExactly(Component.text("hi"));
+  }
+
+  @Test
+  void testAudienceMethodsKeepOrder() throws Exception {
+    final List<List<Component>> received = new ArrayList<>();
+    final List<Audience> audiences = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      final List<Component> messages = Collections.synchronizedList(new ArrayList<>());
+      received.add(messages);
+      audiences.add(new RecordingAudience(messages, false));
+    }
+    final AsyncForwardingAudience audience = AsyncForwardingAudience.asyncAudience(this.executor, 3, audiences);
+    final List<Component> sent = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      sent.add(Component.text(i));
+      audience.sendMessage(Component.text(i));
+    }
+    // sent after every message, so completes only after each audience has received them all
+    audience.broadcast(member -> {}).get(10, TimeUnit.SECONDS);
+    for (final List<Component> messages : received) {
+      assertThat(messages).containsExactlyElementsIn(sent).inOrder();
+    }
+  }
+
+  @Test
+  void testAudienceMethodsReportFailures() {
+    final List<BroadcastException> failures = new ArrayList<>();
+    final Audience failing = new RecordingAudience(new ArrayList<>(), true);
+    final AsyncForwardingAudience audience = AsyncForwardingAudience.asyncAudience(Runnable::run, 1, failures::add, Collections.singletonList(failing));
+    audience.sendMessage(Component.text("hi"));
+    assertThat(failures).hasSize(1);
+    assertThat(failures.get(0).failures().keySet()).containsExactly(failing);
+  }
+
+  @Test
+  void testShowTitleIsOneAction() {
+    final List<Title> titles = new ArrayList<>();
+    final AsyncForwardingAudience audience = AsyncForwardingAudience.asyncAudience(Runnable::run, Collections.singletonList(new Audience() {
+      @Override
+      public void showTitle(final @NotNull Title title) {
+        titles.add(title);
+      }
+    }));
+    final Title title = Title.title(Component.text("a"), Component.text("b"));
+    audience.showTitle(title);
+    assertThat(titles).containsExactly(title);
+  }
+
+  @Test
+  void testInvalidBatchSize() {
+    assertThrows(IllegalArgumentException.class, () -> AsyncForwardingAudience.asyncAudience(this.executor, 0, Collections.emptyList()));
+  }
+
+  static final class RecordingAudience implements Audience {
+    private final List<Component> received;
+    private final boolean fail;
+
+    RecordingAudience(final List<Component> received, final boolean fail) {
+      this.received = received;
+      this.fail = fail;
+    }
+
+    @Override
+    public void sendMessage(final @NotNull Component message) {
+      if (this.fail) throw new IllegalStateException("failed");
+      this.received.add(message);
+    }
+  }
+}
@@ -24,11 +24,17 @@
 package net.kyori.adventure.audience;
 
 import com.google.common.testing.EqualsTester;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
 import static com.google.common.truth.Truth.assertThat;
@@ -122,4 +128,63 @@ class AudienceTest {
   void testCollectorSingleItem() {
     assertThat(Stream.of(Audience.empty()).collect(Audience.toAudience()).audiences()).containsExactly(Audience.empty());
   }
+
+  @Test
+  void testSendPreparedMessage() {
+    final AtomicInteger prepared = new AtomicInteger();
+    final List<String> sent = new ArrayList<>();
+    final PreparedMessage message = PreparedMessage.preparedMessage(Component.text("hello"));
+    Audience.audience(
+      new PreparingAudience(Locale.US, prepared, sent),
+      new PreparingAudience(Locale.GERMANY, prepared, sent),
+      Audience.audience(new PreparingAudience(Locale.US, prepared, sent)),
+      (ForwardingAudience.Single) () -> new PreparingAudience(Locale.GERMANY, prepared, sent)
+    ).sendMessage(message);
+    assertEquals(2, prepared.get());
+    assertEquals(2, message.contexts());
+    assertThat(sent).containsExactly("hello:en_US", "hello:de_DE", "hello:en_US", "hello:de_DE").inOrder();
+  }
+
+  @Test
+  void testPreparedResultsByType() {
+    final PreparedMessage message = PreparedMessage.preparedMessage(Component.text("hello"));
+    assertEquals("hello", message.prepare(String.class, Locale.US, locale -> "hello"));
+    // an equal context does not share results of another type
+    assertEquals(Integer.valueOf(5), message.prepare(Integer.class, Locale.US, locale -> 5));
+    assertEquals("hello", message.prepare(String.class, Locale.US, locale -> "other"));
+    assertEquals(2, message.contexts());
+  }
+
+  @Test
+  void testSendPreparedMessageDefault() {
+    final List<Component> sent = new ArrayList<>();
+    final Audience audience = new Audience() {
+      @Override
+      public void sendMessage(final @NotNull Component message) {
+        sent.add(message);
+      }
+    };
+    audience.sendMessage(PreparedMessage.preparedMessage(Component.text("hello")));
+    assertThat(sent).containsExactly(Component.text("hello"));
+  }
+
+  static final class PreparingAudience implements Audience {
+    private final Locale locale;
+    private final AtomicInteger prepared;
+    private final List<String> sent;
+
+    PreparingAudience(final Locale locale, final AtomicInteger prepared, final List<String> sent) {
+      this.locale = locale;
+      this.prepared = prepared;
+      this.sent = sent;
+    }
+
+    @Override
+    public void sendMessage(final @NotNull PreparedMessage message) {
+      this.sent.add(message.prepare(String.class, this.locale, locale -> {
+        this.prepared.incrementAndGet();
+        return ((TextComponent) message.message()).content() + ":" + locale;
+      }));
+    }
+  }
 }
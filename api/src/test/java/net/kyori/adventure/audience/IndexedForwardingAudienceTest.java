@@ -0,0 +1,161 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.audience;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.permission.PermissionChecker;
+import net.kyori.adventure.pointer.Pointers;
+import net.kyori.adventure.util.TriState;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IndexedForwardingAudienceTest {
+  @Test
+  void testFilterByIndexedPointer() {
+    final IndexedForwardingAudience audience = IndexedForwardingAudience.indexedAudience(Identity.UUID, Identity.LOCALE);
+    final Viewer a = new Viewer(Locale.US);
+    final Viewer b = new Viewer(Locale.GERMANY);
+    final Viewer c = new Viewer(Locale.US);
+    assertTrue(audience.add(a));
+    assertTrue(audience.add(b));
+    assertTrue(audience.add(c));
+    assertFalse(audience.add(a));
+
+    assertSame(b, audience.filterAudience(Identity.UUID, b.uuid));
+    assertSame(Audience.empty(), audience.filterAudience(Identity.UUID, UUID.randomUUID()));
+    assertThat(members(audience.filterAudience(Identity.LOCALE, Locale.US))).containsExactly(a, c);
+    assertThat(members(audience.filterAudience(Identity.NAME, null))).containsExactly(a, b, c);
+  }
+
+  @Test
+  void testRemove() {
+    final IndexedForwardingAudience audience = IndexedForwardingAudience.indexedAudience(Identity.LOCALE);
+    final Viewer a = new Viewer(Locale.US);
+    audience.add(a);
+    assertTrue(audience.remove(a));
+    assertFalse(audience.remove(a));
+    assertSame(Audience.empty(), audience.filterAudience(Identity.LOCALE, Locale.US));
+    assertThat(audience.audiences()).isEmpty();
+  }
+
+  @Test
+  void testUpdate() {
+    final IndexedForwardingAudience audience = IndexedForwardingAudience.indexedAudience(Identity.LOCALE);
+    final Viewer a = new Viewer(Locale.US);
+    assertFalse(audience.update(a));
+    audience.add(a);
+    a.locale = Locale.GERMANY;
+    assertSame(a, audience.filterAudience(Identity.LOCALE, Locale.US)); // not yet updated
+    assertTrue(audience.update(a));
+    assertSame(Audience.empty(), audience.filterAudience(Identity.LOCALE, Locale.US));
+    assertSame(a, audience.filterAudience(Identity.LOCALE, Locale.GERMANY));
+  }
+
+  @Test
+  void testUpdateWhileReading() {
+    final IndexedForwardingAudience audience = IndexedForwardingAudience.indexedAudience(Identity.LOCALE);
+    final Viewer a = new Viewer(Locale.US);
+    audience.add(a);
+    // the locale changes, and is updated, after the first update has read the old locale
+    a.onRead = () -> {
+      a.locale = Locale.GERMANY;
+      assertTrue(audience.update(a));
+    };
+    assertTrue(audience.update(a));
+    assertSame(Audience.empty(), audience.filterAudience(Identity.LOCALE, Locale.US));
+    assertSame(a, audience.filterAudience(Identity.LOCALE, Locale.GERMANY));
+  }
+
+  @Test
+  void testPermitted() {
+    final IndexedForwardingAudience audience = IndexedForwardingAudience.indexedAudience(Collections.emptySet(), Collections.singleton("example.admin"));
+    final Viewer a = new Viewer(Locale.US, "example.admin", "example.other");
+    final Viewer b = new Viewer(Locale.US);
+    audience.add(a);
+    audience.add(b);
+    assertSame(a, audience.permitted("example.admin"));
+    assertSame(a, audience.permitted("example.other")); // not indexed
+    assertSame(Audience.empty(), audience.permitted("example.missing"));
+    b.permissions.add("example.admin");
+    audience.update(b);
+    assertThat(members(audience.permitted("example.admin"))).containsExactly(a, b);
+  }
+
+  @Test
+  void testForEachAudience() {
+    final IndexedForwardingAudience audience = IndexedForwardingAudience.indexedAudience(Identity.LOCALE);
+    final Viewer a = new Viewer(Locale.US);
+    final Viewer b = new Viewer(Locale.GERMANY);
+    audience.add(a);
+    audience.add(b);
+    final Set<Audience> seen = new HashSet<>();
+    audience.forEachAudience(Identity.LOCALE, Locale.GERMANY, seen::add);
+    assertThat(seen).containsExactly(b);
+  }
+
+  private static Set<Audience> members(final Audience audience) {
+    final Set<Audience> members = new HashSet<>();
+    audience.forEachAudience(members::add);
+    return members;
+  }
+
+  static final class Viewer implements Audience {
+    final UUID uuid = UUID.randomUUID();
+    final Set<String> permissions;
+    Locale locale;
+    @Nullable Runnable onRead;
+
+    Viewer(final Locale locale, final String... permissions) {
+      this.locale = locale;
+      this.permissions = new HashSet<>(Arrays.asList(permissions));
+    }
+
+    @Override
+    public @NotNull Pointers pointers() {
+      final Locale locale = this.locale;
+      final @Nullable Runnable onRead = this.onRead;
+      if (onRead != null) {
+        this.onRead = null;
+        onRead.run();
+      }
+      return Pointers.builder()
+        .withStatic(Identity.UUID, this.uuid)
+        .withStatic(Identity.LOCALE, locale)
+        .withStatic(PermissionChecker.POINTER, permission -> TriState.byBoolean(this.permissions.contains(permission)))
+        .build();
+    }
+  }
+}
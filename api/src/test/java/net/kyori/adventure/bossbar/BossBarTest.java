@@ -24,7 +24,9 @@
 package net.kyori.adventure.bossbar;
 
 import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -35,7 +37,9 @@ import org.junit.jupiter.api.Test;
 
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class BossBarTest {
   private final AtomicInteger name = new AtomicInteger();
@@ -224,6 +228,136 @@ public class BossBarTest {
     });
   }
 
+  @Test
+  void testEdit() {
+    final List<BossBar.ChangeSet> changeSets = new ArrayList<>();
+    this.bar.addListener(this.listener);
+    this.bar.addListener(new BossBar.Listener() {
+      @Override
+      public void bossBarChanged(final @NotNull BossBar bar, final BossBar.@NotNull ChangeSet changes) {
+        changeSets.add(changes);
+      }
+    });
+
+    this.bar.edit(bar -> bar.name(Component.text("A")).progress(0.5f).addFlag(BossBar.Flag.DARKEN_SCREEN).color(BossBar.Color.RED));
+    assertThat(changeSets).hasSize(1);
+    final BossBar.ChangeSet changes = changeSets.get(0);
+    assertTrue(changes.nameChanged());
+    assertEquals(Component.empty(), changes.oldName());
+    assertEquals(Component.text("A"), changes.newName());
+    assertTrue(changes.progressChanged());
+    assertEquals(1f, changes.oldProgress());
+    assertEquals(0.5f, changes.newProgress());
+    assertTrue(changes.colorChanged());
+    assertEquals(BossBar.Color.PURPLE, changes.oldColor());
+    assertEquals(BossBar.Color.RED, changes.newColor());
+    assertFalse(changes.overlayChanged());
+    assertTrue(changes.flagsChanged());
+    assertThat(changes.flagsAdded()).containsExactly(BossBar.Flag.DARKEN_SCREEN);
+    assertThat(changes.flagsRemoved()).isEmpty();
+
+    // the default listener implementation is notified of each property that changed
+    assertEquals(1, this.name.get());
+    assertEquals(1, this.progress.get());
+    assertEquals(1, this.color.get());
+    assertEquals(0, this.overlay.get());
+    assertEquals(1, this.flags.get());
+
+    // changes that are undone within an edit are not reported
+    this.bar.edit(bar -> bar.name(Component.text("B")).name(Component.text("A")));
+    assertThat(changeSets).hasSize(1);
+
+    // single changes are reported as a change set too
+    this.bar.overlay(BossBar.Overlay.NOTCHED_6);
+    assertThat(changeSets).hasSize(2);
+    assertTrue(changeSets.get(1).overlayChanged());
+    assertFalse(changeSets.get(1).nameChanged());
+    assertEquals(1, this.overlay.get());
+  }
+
+  @Test
+  void testEdit_failure() {
+    final AtomicInteger changes = new AtomicInteger();
+    this.bar.addListener(new BossBar.Listener() {
+      @Override
+      public void bossBarChanged(final @NotNull BossBar bar, final BossBar.@NotNull ChangeSet changeSet) {
+        changes.incrementAndGet();
+      }
+    });
+
+    assertThrows(IllegalArgumentException.class, () -> this.bar.edit(bar -> bar.name(Component.text("A")).addFlag(BossBar.Flag.DARKEN_SCREEN).progress(2f)));
+    assertEquals(Component.empty(), this.bar.name());
+    assertThat(this.bar.flags()).isEmpty();
+    assertEquals(0, changes.get());
+
+    this.bar.name(Component.text("A"));
+    assertEquals(1, changes.get());
+  }
+
+  @Test
+  void testEdit_checkedFailure() {
+    final AtomicInteger changes = new AtomicInteger();
+    this.bar.addListener(new BossBar.Listener() {
+      @Override
+      public void bossBarChanged(final @NotNull BossBar bar, final BossBar.@NotNull ChangeSet changeSet) {
+        changes.incrementAndGet();
+      }
+    });
+
+    final Exception failure = new Exception("checked");
+    assertThrows(Exception.class, () -> this.bar.edit(bar -> {
+      bar.name(Component.text("A"));
+      sneakyThrow(failure);
+    }));
+    assertEquals(Component.empty(), this.bar.name());
+    assertEquals(0, changes.get());
+
+    // the bossbar is no longer being edited, so changes are reported again
+    this.bar.name(Component.text("A"));
+    assertEquals(1, changes.get());
+  }
+
+  @Test
+  void testListenersNotifiedWithoutLock() {
+    final List<Boolean> locked = new ArrayList<>();
+    this.bar.addListener(new BossBar.Listener() {
+      @Override
+      public void bossBarChanged(final @NotNull BossBar bar, final BossBar.@NotNull ChangeSet changeSet) {
+        locked.add(Thread.holdsLock(bar));
+      }
+    });
+
+    this.bar.name(Component.text("A"));
+    this.bar.addFlag(BossBar.Flag.DARKEN_SCREEN);
+    this.bar.edit(bar -> bar.progress(0.5f).color(BossBar.Color.RED));
+    assertEquals(Collections.nCopies(3, false), locked);
+  }
+
+  @Test
+  void testUnchangedFlags() {
+    final AtomicInteger changes = new AtomicInteger();
+    this.bar.addListener(new BossBar.Listener() {
+      @Override
+      public void bossBarChanged(final @NotNull BossBar bar, final BossBar.@NotNull ChangeSet changeSet) {
+        changes.incrementAndGet();
+      }
+    });
+
+    this.bar.removeFlag(BossBar.Flag.DARKEN_SCREEN);
+    this.bar.removeFlags(BossBar.Flag.values());
+    this.bar.addFlags(Collections.emptyList());
+    assertEquals(0, changes.get());
+
+    this.bar.addFlags(BossBar.Flag.DARKEN_SCREEN, BossBar.Flag.PLAY_BOSS_MUSIC);
+    this.bar.addFlag(BossBar.Flag.DARKEN_SCREEN);
+    assertEquals(1, changes.get());
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <E extends Throwable> void sneakyThrow(final Throwable error) throws E {
+    throw (E) error;
+  }
+
   static class Changes implements BossBar.Listener {
     final AtomicReference<Set<BossBar.Flag>> flagsAdded = new AtomicReference<>(Collections.emptySet());
     final AtomicReference<Set<BossBar.Flag>> flagsRemoved = new AtomicReference<>(Collections.emptySet());
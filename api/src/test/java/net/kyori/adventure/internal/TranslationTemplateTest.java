@@ -0,0 +1,143 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.internal;
+
+import java.text.AttributedCharacterIterator;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TranslationTemplateTest {
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "",
+    "No arguments.",
+    "Hello {0}!",
+    "{0}",
+    "{0}{1}",
+    "{0}{0} and {0}",
+    "{1} before {0}",
+    "{0} and ''{1}'' are cats.",
+    "'{0}' is quoted",
+    "{2}, {0} and {1}",
+    "{0,number} items at {1,number,#.##}",
+    "{0,choice,0#none|1#one|1<many}",
+    "{0,date} '{'escaped'}'"
+  })
+  @SuppressWarnings("JdkObsolete")
+  void testSpliceMatchesMessageFormat(final String pattern) {
+    final MessageFormat format = new MessageFormat(pattern);
+    final TranslationTemplate template = TranslationTemplate.compile(format);
+    final TranslationTemplate uncompiled = TranslationTemplate.uncompiled(format);
+    assertEquals(format.format(null, new StringBuffer(), null).toString(), template.text());
+    assertEquals(template.text(), uncompiled.text());
+    for (int count = 1; count <= 3; count++) {
+      assertEquals(runs(format, count), splice(template, count), "with " + count + " arguments");
+      assertEquals(splice(template, count), splice(uncompiled, count), "uncompiled with " + count + " arguments");
+    }
+  }
+
+  @Test
+  void testFormatArgument() {
+    final TranslationTemplate template = TranslationTemplate.compile(new MessageFormat("{0} {1,number,#.##} {2,choice,0#none|1#one|1<many}", Locale.GERMANY));
+    assertEquals("1.234,5", template.formatArgument(0, 1234.5));
+    assertEquals("3,14", template.formatArgument(1, 3.14159));
+    assertEquals("many", template.formatArgument(2, 5));
+    assertEquals("true", template.formatArgument(0, true));
+    assertEquals("true", template.formatArgument(1, true)); // not a number
+    assertEquals("1,234", TranslationTemplate.compile(new MessageFormat("{0}", Locale.US)).formatArgument(0, 1234));
+  }
+
+  @Test
+  void testFormatArgumentUncompiled() {
+    final TranslationTemplate template = TranslationTemplate.uncompiled(new MessageFormat("{0} {1,number,#.##} {2,choice,0#none|1#one|1<many}", Locale.GERMANY));
+    assertEquals("1.234,5", template.formatArgument(0, 1234.5));
+    assertEquals("3,14", template.formatArgument(1, 3.14159));
+    assertEquals("many", template.formatArgument(2, 5));
+    assertEquals("true", template.formatArgument(1, true)); // not a number
+  }
+
+  @Test
+  void testFormatArgumentConcurrently() throws InterruptedException {
+    final TranslationTemplate template = TranslationTemplate.compile(new MessageFormat("{0} {1,number,#.##}", Locale.GERMANY));
+    final List<String> failures = Collections.synchronizedList(new ArrayList<>());
+    final Thread[] threads = new Thread[4];
+    for (int i = 0; i < threads.length; i++) {
+      final int offset = i;
+      threads[i] = new Thread(() -> {
+        for (int j = 0; j < 1000; j++) {
+          final double value = offset * 1000 + j + 0.25;
+          final String expected = new MessageFormat("{0,number,#.##}", Locale.GERMANY).format(new Object[]{value});
+          if (!expected.equals(template.formatArgument(1, value))) failures.add(expected);
+          if (!String.format(Locale.GERMANY, "%,.2f", value).equals(template.formatArgument(0, value))) failures.add(expected);
+        }
+      });
+      threads[i].start();
+    }
+    for (final Thread thread : threads) {
+      thread.join();
+    }
+    assertEquals(Collections.emptyList(), failures);
+  }
+
+  // the runs produced by formatting with MessageFormat directly
+  @SuppressWarnings("JdkObsolete")
+  private static List<String> runs(final MessageFormat format, final int count) {
+    final List<String> runs = new ArrayList<>();
+    final Object[] nulls = new Object[count];
+    final StringBuffer sb = format.format(nulls, new StringBuffer(), null);
+    final AttributedCharacterIterator it = format.formatToCharacterIterator(nulls);
+    while (it.getIndex() < it.getEndIndex()) {
+      final int end = it.getRunLimit();
+      final Integer index = (Integer) it.getAttribute(MessageFormat.Field.ARGUMENT);
+      runs.add(index != null ? "#" + index : sb.substring(it.getIndex(), end));
+      it.setIndex(end);
+    }
+    return runs;
+  }
+
+  private static List<String> splice(final TranslationTemplate template, final int count) {
+    final List<String> runs = new ArrayList<>();
+    template.splice(count, new TranslationTemplate.Output() {
+      @Override
+      public void literal(final @NotNull String text) {
+        runs.add(text);
+      }
+
+      @Override
+      public void argument(final int index) {
+        runs.add("#" + index);
+      }
+    });
+    return runs;
+  }
+}
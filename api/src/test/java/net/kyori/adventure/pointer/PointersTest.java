@@ -25,10 +25,12 @@ package net.kyori.adventure.pointer;
 
 import java.util.function.Supplier;
 import net.kyori.adventure.key.Key;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 final class PointersTest {
@@ -90,4 +92,87 @@ final class PointersTest {
     assertEquals("1", rebuilt.get(p0).get());
     assertEquals("1", rebuilt.get(p1).get());
   }
+
+  @Test
+  public void getOrNull() {
+    final Pointer<String> pointer = Pointer.pointer(String.class, Key.key("adventure:test"));
+    final Pointer<String> other = Pointer.pointer(String.class, Key.key("adventure:other"));
+
+    assertNull(Pointers.empty().getOrNull(pointer));
+
+    final Pointers p0 = Pointers.builder()
+      .withStatic(pointer, "test")
+      .withStatic(other, null)
+      .build();
+    assertEquals("test", p0.getOrNull(pointer));
+    assertEquals("test", p0.getOrNull(Pointer.pointer(String.class, Key.key("adventure:test")))); // equal pointers share a value
+    assertNull(p0.getOrNull(other));
+    assertEquals("default", p0.getOrDefault(other, "default"));
+    assertEquals("default", p0.getOrDefaultFrom(other, () -> "default"));
+    assertNull(p0.getOrNull(Pointer.pointer(String.class, Key.key("adventure:missing"))));
+    assertFalse(p0.supports(Pointer.pointer(String.class, Key.key("adventure:missing"))));
+    assertNull(p0.getOrNull(Pointer.pointer(Integer.class, Key.key("adventure:test")))); // pointers of a different type are distinct
+  }
+
+  @Test
+  public void customPointer() {
+    final Pointer<String> pointer = new Pointer<String>() {
+      @Override
+      public @NotNull Class<String> type() {
+        return String.class;
+      }
+
+      @Override
+      public @NotNull Key key() {
+        return Key.key("adventure:custom");
+      }
+    };
+
+    final Pointers pointers = Pointers.builder()
+      .withStatic(pointer, "test")
+      .build();
+    assertTrue(pointers.supports(pointer));
+    assertEquals("test", pointers.getOrNull(pointer));
+    assertEquals("test", pointers.get(pointer).get());
+  }
+
+  @Test
+  public void getOrNullSuppliers() {
+    final Pointer<String> pointer = Pointer.pointer(String.class, Key.key("adventure:test"));
+    final PointersSupplier<Integer> supplier = PointersSupplier.<Integer>builder()
+      .resolving(pointer, String::valueOf)
+      .build();
+
+    assertEquals("10", supplier.view(10).getOrNull(pointer));
+    assertNull(supplier.view(10).getOrNull(Pointer.pointer(String.class, Key.key("adventure:missing"))));
+  }
+
+  @Test
+  public void getOrDefaultFromSuppliers() {
+    final Pointer<String> pointer = Pointer.pointer(String.class, Key.key("adventure:test"));
+    final Pointer<String> missing = Pointer.pointer(String.class, Key.key("adventure:missing"));
+    final PointersSupplier<Integer> parent = PointersSupplier.<Integer>builder()
+      .resolving(pointer, String::valueOf)
+      .build();
+    final PointersSupplier<Integer> child = PointersSupplier.<Integer>builder()
+      .parent(parent)
+      .build();
+
+    assertEquals("10", child.view(10).getOrDefaultFrom(pointer, () -> "default"));
+    assertEquals("default", child.view(10).getOrDefaultFrom(missing, () -> "default"));
+    assertFalse(child.supports(missing));
+  }
+
+  @Test
+  public void unboundedPointers() {
+    // pointers beyond the bound on ids are looked up by equality instead
+    final Pointers.Builder builder = Pointers.builder();
+    for (int i = 0; i < PointerImpl.MAXIMUM_IDS * 2; i++) {
+      builder.withStatic(Pointer.pointer(Integer.class, Key.key("adventure", "bound_" + i)), i);
+    }
+    final Pointers pointers = builder.build();
+    for (int i = 0; i < PointerImpl.MAXIMUM_IDS * 2; i++) {
+      assertEquals(Integer.valueOf(i), pointers.getOrNull(Pointer.pointer(Integer.class, Key.key("adventure", "bound_" + i))));
+    }
+  }
 }
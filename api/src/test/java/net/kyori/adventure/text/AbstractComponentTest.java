@@ -42,6 +42,7 @@ import static net.kyori.test.WeirdAssertions.assertAllEqualToEachOther;
 import static net.kyori.test.WeirdAssertions.forEachTransformAndAssertIterable;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -324,6 +325,69 @@ abstract class AbstractComponentTest<C extends BuildableComponent<C, B> & Scoped
       .testEquals();
   }
 
+  @Test
+  void testEqualsAfterHashing() {
+    final C c0 = this.builder().append(Component.text("a", NamedTextColor.RED)).build();
+    final C c1 = this.builder().append(Component.text("a", NamedTextColor.RED)).build();
+    final C c2 = this.builder().append(Component.text("b", NamedTextColor.RED)).build();
+    assertEquals(c0.hashCode(), c1.hashCode());
+    assertEquals(c0.hashCode(), c0.hashCode());
+    assertEquals(c0, c1);
+    c2.hashCode();
+    assertNotEquals(c0, c2);
+    assertNotEquals(c2, c1);
+  }
+
+  @Test
+  void testAccept() {
+    final C c0 = this.buildOne();
+    final ComponentVisitor<Component, String> visitor = new ComponentVisitor<Component, String>() {
+      @Override
+      public Component visitText(final TextComponent component, final String context) {
+        return component.content(context);
+      }
+
+      @Override
+      public Component visitTranslatable(final TranslatableComponent component, final String context) {
+        return component.key(context);
+      }
+
+      @Override
+      public Component visitKeybind(final KeybindComponent component, final String context) {
+        return component.keybind(context);
+      }
+
+      @Override
+      public Component visitScore(final ScoreComponent component, final String context) {
+        return component.name(context);
+      }
+
+      @Override
+      public Component visitSelector(final SelectorComponent component, final String context) {
+        return component.pattern(context);
+      }
+
+      @Override
+      public Component visitBlockNBT(final BlockNBTComponent component, final String context) {
+        return component.nbtPath(context);
+      }
+
+      @Override
+      public Component visitEntityNBT(final EntityNBTComponent component, final String context) {
+        return component.selector(context);
+      }
+
+      @Override
+      public Component visitStorageNBT(final StorageNBTComponent component, final String context) {
+        return component.nbtPath(context);
+      }
+    };
+
+    final Component visited = c0.accept(visitor, "visited");
+    assertSame(c0.getClass(), visited.getClass());
+    assertNotEquals(c0, visited);
+  }
+
   // -----------------
   // ---- Builder ----
   // -----------------
@@ -0,0 +1,84 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ComponentChildrenTest {
+  @Test
+  void testAppendKeepsOlderVersions() {
+    final List<Component> expected = new ArrayList<>();
+    final List<List<Component>> versions = new ArrayList<>();
+    List<Component> children = new ArrayList<>();
+    for (int i = 0; i < 40_000; i++) {
+      final Component child = Component.text(i);
+      children = ComponentChildren.append(children, child);
+      expected.add(child);
+      if (i % 997 == 0) versions.add(children);
+    }
+    assertEquals(expected, children);
+    for (final List<Component> version : versions) {
+      assertEquals(expected.subList(0, version.size()), version);
+    }
+  }
+
+  @Test
+  void testOfBoundaries() {
+    for (final int size : new int[]{1, 31, 32, 33, 64, 1024, 1056, 1057, 32 * 32 * 32 + 33}) {
+      final List<Component> expected = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        expected.add(Component.text(i));
+      }
+      final List<Component> children = ComponentChildren.of(expected.toArray(), size);
+      assertEquals(expected, children);
+      assertEquals(expected.hashCode(), children.hashCode());
+      assertThrows(IndexOutOfBoundsException.class, () -> children.get(size));
+    }
+  }
+
+  @Test
+  void testComponentAppendInLoop() {
+    TextComponent component = Component.text("root");
+    for (int i = 0; i < 1_000; i++) {
+      component = component.append(Component.text(i));
+    }
+    assertEquals(1_000, component.children().size());
+    assertEquals(Component.text(999), component.children().get(999));
+    // children are passed through without being copied again
+    assertSame(component.children(), component.content("other").children());
+  }
+
+  @Test
+  void testEmptyComponentsAreFiltered() {
+    final List<Component> children = ComponentChildren.of(new Object[]{Component.text("a"), Component.empty(), Component.text("b")}, 3);
+    assertEquals(3, children.size());
+    assertEquals(2, Component.text().append(Component.text("x")).build().children(children).children().size());
+  }
+}
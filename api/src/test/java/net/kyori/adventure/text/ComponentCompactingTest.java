@@ -417,4 +417,34 @@ class ComponentCompactingTest {
     assertEquals(expectedComponent, expectedComponent.compact());
   }
 
+  @Test
+  void testDeeplyNestedCompaction() {
+    final int depth = 10_000;
+    final StringBuilder expected = new StringBuilder("a");
+    Component input = text("a", NamedTextColor.RED);
+    for (int i = 0; i < depth; i++) {
+      input = text().content("a").color(NamedTextColor.RED).append(input).build();
+      expected.append('a');
+    }
+
+    assertEquals(text(expected.toString(), NamedTextColor.RED), input.compact());
+  }
+
+  @Test
+  void testManySiblingsCompaction() {
+    final TextComponent.Builder input = text().color(NamedTextColor.RED);
+    final TextComponent.Builder expected = text().color(NamedTextColor.RED);
+    for (int i = 0; i < 1000; i++) {
+      for (int j = 0; j < 5; j++) {
+        input.append(text("a", NamedTextColor.BLUE));
+      }
+      for (int j = 0; j < 5; j++) {
+        input.append(text("b", NamedTextColor.GREEN));
+      }
+      expected.append(text("aaaaa", NamedTextColor.BLUE), text("bbbbb", NamedTextColor.GREEN));
+    }
+
+    assertEquals(expected.build(), input.build().compact());
+  }
+
 }
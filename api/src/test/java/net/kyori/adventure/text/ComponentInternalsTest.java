@@ -0,0 +1,72 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text;
+
+import java.util.UUID;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.event.HoverEvent;
+import org.junit.jupiter.api.Test;
+
+import static net.kyori.adventure.text.Component.text;
+import static net.kyori.adventure.text.Component.translatable;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ComponentInternalsTest {
+  @Test
+  void testContainsTranslatable() {
+    assertFalse(ComponentInternals.containsTranslatable(text("a")));
+    assertFalse(ComponentInternals.containsTranslatable(text().append(text("a"), Component.keybind("key.jump")).hoverEvent(text("hover")).build()));
+    assertTrue(ComponentInternals.containsTranslatable(translatable("a")));
+    assertTrue(ComponentInternals.containsTranslatable(text().append(text("a"), text().append(translatable("b"))).build()));
+  }
+
+  @Test
+  void testContainsTranslatableNested() {
+    assertTrue(ComponentInternals.containsTranslatable(text("a").hoverEvent(translatable("b"))));
+    assertTrue(ComponentInternals.containsTranslatable(text("a").hoverEvent(HoverEvent.showEntity(Key.key("pig"), UUID.randomUUID(), translatable("b")))));
+    assertFalse(ComponentInternals.containsTranslatable(text("a").hoverEvent(HoverEvent.showEntity(Key.key("pig"), UUID.randomUUID()))));
+    assertTrue(ComponentInternals.containsTranslatable(Component.selector("@p", translatable("b"))));
+    assertTrue(ComponentInternals.containsTranslatable(Component.entityNBT("path", "@p").separator(translatable("b"))));
+    assertFalse(ComponentInternals.containsTranslatable(Component.entityNBT("path", "@p").separator(text(", "))));
+  }
+
+  @Test
+  void testContainsTranslatableSharedSubtree() {
+    final Component shared = text().append(text("a"), translatable("b")).build();
+    final Component clean = text("c");
+    assertTrue(ComponentInternals.containsTranslatable(text().append(clean, shared, shared).build()));
+    assertTrue(ComponentInternals.containsTranslatable(shared));
+    assertFalse(ComponentInternals.containsTranslatable(clean));
+  }
+
+  @Test
+  void testContainsTranslatableDeeplyNested() {
+    Component input = translatable("a");
+    for (int i = 0; i < 10_000; i++) {
+      input = text().content("a").append(input).build();
+    }
+    assertTrue(ComponentInternals.containsTranslatable(input));
+  }
+}
@@ -23,13 +23,23 @@
  */
 package net.kyori.adventure.text;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Spliterator;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.event.HoverEvent;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -153,4 +163,83 @@ class ComponentIteratorTest {
 
     fail("Could not locale the arg of a translatable component.");
   }
+
+  @Test
+  public void testCursor() {
+    final Component component = complexComponent();
+
+    final List<Component> expected = new ArrayList<>();
+    new ComponentIterator(component, ComponentIteratorType.DEPTH_FIRST, EnumSet.allOf(ComponentIteratorFlag.class)).forEachRemaining(expected::add);
+
+    final List<Component> visited = new ArrayList<>();
+    final ComponentCursor cursor = component.cursor(ComponentIteratorFlag.values());
+    while (cursor.advance()) {
+      visited.add(cursor.component());
+    }
+    assertEquals(expected, visited);
+    assertFalse(cursor.advance());
+    assertThrows(IllegalStateException.class, cursor::component);
+
+    // reusing the cursor for another tree
+    visited.clear();
+    cursor.reset(component);
+    while (cursor.advance()) {
+      visited.add(cursor.component());
+    }
+    assertEquals(expected, visited);
+  }
+
+  @Test
+  public void testCursorSkipChildren() {
+    final Component component = Component.text()
+      .content("root")
+      .append(Component.text("SKIP").append(Component.text("DEEP")))
+      .append(Component.text("WIDE").append(Component.text("DEEPER")))
+      .build();
+
+    final List<String> visited = new ArrayList<>();
+    final ComponentCursor cursor = component.cursor();
+    while (cursor.advance()) {
+      final String content = ((TextComponent) cursor.component()).content();
+      visited.add(cursor.depth() + content);
+      if (content.equals("SKIP")) {
+        cursor.skipChildren();
+      }
+    }
+    assertEquals(Arrays.asList("0root", "1SKIP", "1WIDE", "2DEEPER"), visited);
+  }
+
+  @Test
+  public void testSpliteratorSplits() {
+    final TextComponent.Builder builder = Component.text().content("root");
+    for (int i = 0; i < 100; i++) {
+      builder.append(complexComponent());
+    }
+    final Component component = builder.build();
+
+    final List<Component> expected = new ArrayList<>();
+    new ComponentIterator(component, ComponentIteratorType.DEPTH_FIRST, EnumSet.allOf(ComponentIteratorFlag.class)).forEachRemaining(expected::add);
+
+    final Spliterator<Component> spliterator = component.spliterator(ComponentIteratorType.DEPTH_FIRST, ComponentIteratorFlag.values());
+    final Spliterator<Component> prefix = spliterator.trySplit();
+    assertNotNull(prefix);
+    final List<Component> split = new ArrayList<>();
+    prefix.forEachRemaining(split::add);
+    spliterator.forEachRemaining(split::add);
+    assertEquals(expected, split);
+
+    final List<Component> parallel = StreamSupport.stream(component.spliterator(ComponentIteratorType.DEPTH_FIRST, ComponentIteratorFlag.values()), true)
+      .collect(Collectors.toList());
+    assertEquals(expected, parallel);
+  }
+
+  private static Component complexComponent() {
+    return Component.text()
+      .content("Purity Ring ")
+      .append(Component.text("are absolutely ", NamedTextColor.DARK_PURPLE).append(Component.text("the best ")))
+      .append(Component.translatable("some.adjective", Component.text("arg").append(Component.text("nested"))))
+      .append(Component.text(" band", NamedTextColor.GREEN).hoverEvent(HoverEvent.showText(Component.text("ever").append(Component.text("!")))))
+      .append(Component.text("."))
+      .build();
+  }
 }
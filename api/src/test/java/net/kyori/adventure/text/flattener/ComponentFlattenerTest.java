@@ -40,6 +40,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ComponentFlattenerTest {
@@ -281,4 +282,84 @@ class ComponentFlattenerTest {
       .assertPushesAndPops(3)
       .assertContents("Hello", "How are you?", "Not great");
   }
+
+  @Test
+  void testComplexHandlerBeforeChildren() {
+    final ComponentFlattener flattener = ComponentFlattener.basic().toBuilder()
+      .complexMapper(TranslatableComponent.class, (component, accepter) -> {
+        accepter.accept(Component.text("a"));
+        accepter.accept(Component.text("b").append(Component.text("c")));
+      })
+      .build();
+
+    this.testFlatten(flattener, Component.translatable("my.key").append(Component.text("d")))
+      .assertBalanced()
+      .assertPushesAndPops(5)
+      .assertContents("a", "b", "c", "d");
+  }
+
+  @Test
+  void testDeeplyNested() {
+    final int depth = 10_000;
+    Component component = Component.text("bottom");
+    for (int i = 0; i < depth; i++) {
+      component = Component.text("level").append(component);
+    }
+
+    final TrackingFlattener listener = this.testFlatten(ComponentFlattener.basic(), component)
+      .assertBalanced()
+      .assertPushesAndPops(depth + 1);
+    assertEquals("bottom", listener.strings.get(depth));
+  }
+
+  @Test
+  void testStyleRuns() {
+    final Component component = Component.text()
+      .content("Hello ")
+      .color(NamedTextColor.RED)
+      .append(Component.text("there "))
+      .append(Component.text("", NamedTextColor.GREEN))
+      .append(Component.text("world", Style.style(TextDecoration.BOLD)))
+      .append(Component.text("!", NamedTextColor.RED))
+      .build();
+
+    final StringBuilder buffer = new StringBuilder("> ");
+    final List<String> runs = new ArrayList<>();
+    ComponentFlattener.basic().flatten(component, buffer, (start, end, style) -> runs.add(start + ":" + end + " " + buffer.substring(start, end) + " " + style.color() + " " + style.hasDecoration(TextDecoration.BOLD)));
+
+    assertEquals("> Hello there world!", buffer.toString());
+    assertIterableEquals(Arrays.asList(
+      "2:14 Hello there  red false",
+      "14:19 world red true",
+      "19:20 ! red false"
+    ), runs);
+  }
+
+  @Test
+  void testResolvedStyles() {
+    final ComponentFlattener flattener = ComponentFlattener.basic().toBuilder()
+      .resolveStyles(true)
+      .build();
+    final Style bold = Style.style(TextDecoration.BOLD);
+    final Component component = Component.text()
+      .content("a")
+      .color(NamedTextColor.RED)
+      .append(Component.text("b", bold))
+      .append(Component.text("c", bold))
+      .build();
+
+    final TrackingFlattener listener = this.testFlatten(flattener, component)
+      .assertBalanced()
+      .assertStyles(
+        Style.style(NamedTextColor.RED),
+        Style.style(NamedTextColor.RED, TextDecoration.BOLD),
+        Style.style(NamedTextColor.RED, TextDecoration.BOLD)
+      )
+      .assertContents("a", "b", "c");
+    // identical merges are only resolved once
+    assertSame(listener.pushedStyles.get(1), listener.pushedStyles.get(2));
+    // and the option is retained by the builder
+    this.testFlatten(flattener.toBuilder().build(), component)
+      .assertStyles(listener.pushedStyles.toArray(new Style[0]));
+  }
 }
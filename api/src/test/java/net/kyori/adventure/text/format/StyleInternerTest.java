@@ -0,0 +1,76 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.format;
+
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.event.ClickEvent;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StyleInternerTest {
+  @Test
+  void testEqualStylesAreShared() {
+    final StyleInterner interner = new StyleInterner(16);
+    final StyleImpl s0 = interner.intern((StyleImpl) Style.style(NamedTextColor.RED, TextDecoration.BOLD).font(Key.key("uniform")));
+    final StyleImpl s1 = interner.intern((StyleImpl) Style.style().font(Key.key("uniform")).decorate(TextDecoration.BOLD).color(NamedTextColor.RED).build());
+    assertSame(s0, s1);
+  }
+
+  @Test
+  void testDifferentStylesAreNotShared() {
+    final StyleInterner interner = new StyleInterner(16);
+    final StyleImpl s0 = (StyleImpl) Style.style(NamedTextColor.RED).clickEvent(ClickEvent.runCommand("/hi"));
+    final StyleImpl s1 = (StyleImpl) Style.style(NamedTextColor.RED).clickEvent(ClickEvent.runCommand("/bye"));
+    assertSame(s0, interner.intern(s0));
+    assertSame(s1, interner.intern(s1));
+    assertNotSame(interner.intern(s0), interner.intern(s1));
+  }
+
+  @Test
+  void testEmptyStyleIsCanonical() {
+    final StyleInterner interner = new StyleInterner(16);
+    final StyleImpl s0 = (StyleImpl) Style.style(NamedTextColor.RED).color(null);
+    assertEquals(Style.empty(), s0);
+    assertSame(Style.empty(), interner.intern(s0));
+  }
+
+  @Test
+  void testCapacityMustBePowerOfTwo() {
+    assertThrows(IllegalArgumentException.class, () -> new StyleInterner(0));
+    assertThrows(IllegalArgumentException.class, () -> new StyleInterner(12));
+  }
+
+  @Test
+  void testCachedHashCode() {
+    final Style s0 = Style.style(NamedTextColor.GREEN, TextDecoration.ITALIC).insertion("abc");
+    final Style s1 = Style.style(NamedTextColor.GREEN, TextDecoration.ITALIC).insertion("abc");
+    assertEquals(s0.hashCode(), s0.hashCode());
+    assertEquals(s0.hashCode(), s1.hashCode());
+    assertEquals(s0, s1);
+  }
+}
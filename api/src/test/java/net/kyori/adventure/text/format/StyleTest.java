@@ -299,6 +299,34 @@ class StyleTest {
     assertEquals(NamedTextColor.BLACK, s2.color());
   }
 
+  @Test
+  void testMergeReusesInputs() {
+    final Style s0 = Style.style(NamedTextColor.BLACK, TextDecoration.BOLD);
+    final Style s1 = Style.style(NamedTextColor.BLACK);
+    assertSame(s0, s0.merge(s1));
+    assertSame(s0, s0.merge(Style.style(NamedTextColor.RED), Style.Merge.Strategy.IF_ABSENT_ON_TARGET));
+    assertSame(s0, s1.merge(s0));
+    final Style s2 = Style.style(NamedTextColor.RED, TextDecoration.ITALIC);
+    final Style s3 = s0.merge(s2);
+    assertEquals(Style.style(NamedTextColor.RED, TextDecoration.BOLD, TextDecoration.ITALIC), s3);
+    assertSame(s3.decorations(), s3.merge(s0, Style.Merge.Strategy.IF_ABSENT_ON_TARGET).decorations());
+  }
+
+  @Test
+  void testMergeDecorationStrategies() {
+    final Style s0 = Style.style().decoration(TextDecoration.BOLD, true).decoration(TextDecoration.ITALIC, false).build();
+    final Style s1 = Style.style().decoration(TextDecoration.BOLD, false).decoration(TextDecoration.UNDERLINED, true).build();
+    final Style always = s0.merge(s1, Style.Merge.Strategy.ALWAYS);
+    assertEquals(TextDecoration.State.FALSE, always.decoration(TextDecoration.BOLD));
+    assertEquals(TextDecoration.State.FALSE, always.decoration(TextDecoration.ITALIC));
+    assertEquals(TextDecoration.State.TRUE, always.decoration(TextDecoration.UNDERLINED));
+    assertEquals(TextDecoration.State.NOT_SET, always.decoration(TextDecoration.OBFUSCATED));
+    final Style ifAbsent = s0.merge(s1, Style.Merge.Strategy.IF_ABSENT_ON_TARGET);
+    assertEquals(TextDecoration.State.TRUE, ifAbsent.decoration(TextDecoration.BOLD));
+    assertEquals(TextDecoration.State.FALSE, ifAbsent.decoration(TextDecoration.ITALIC));
+    assertEquals(TextDecoration.State.TRUE, ifAbsent.decoration(TextDecoration.UNDERLINED));
+  }
+
   @Test
   void testBuilderColorIfAbsent() {
     assertEquals(NamedTextColor.GREEN, Style.style().colorIfAbsent(NamedTextColor.GREEN).build().color());
@@ -388,6 +416,14 @@ class StyleTest {
     assertDecorations(s2, ImmutableSet.of(TextDecoration.ITALIC), ImmutableSet.of());
   }
 
+  @Test
+  void testUnmergeReusesInputs() {
+    final Style s0 = Style.style(NamedTextColor.DARK_RED, TextDecoration.BOLD);
+    final Style s1 = Style.style(NamedTextColor.GREEN, TextDecoration.ITALIC);
+    assertSame(s0, s0.unmerge(s1));
+    assertSame(Style.empty(), s0.unmerge(Style.style(NamedTextColor.DARK_RED, TextDecoration.BOLD)));
+  }
+
   @Test
   void testUnmergeWithEmptyChild() {
     final Style s0 = Style.style(NamedTextColor.DARK_RED, TextDecoration.BOLD);
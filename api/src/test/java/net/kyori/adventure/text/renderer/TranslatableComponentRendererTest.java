@@ -0,0 +1,103 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.renderer;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.BlockNBTComponent;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentBuilder;
+import net.kyori.adventure.text.NBTComponent;
+import net.kyori.adventure.text.NBTComponentBuilder;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class TranslatableComponentRendererTest {
+  private static final TranslatableComponentRenderer<Locale> RENDERER = new TranslatableComponentRenderer<Locale>() {
+    @Override
+    protected @Nullable MessageFormat translate(final @NotNull String key, final @NotNull Locale context) {
+      return key.equals("greeting") ? new MessageFormat("Hello", context) : null;
+    }
+  };
+
+  @Test
+  void testRenderUnchanged() {
+    final Component component = Component.text("a").append(Component.translatable("missing")).append(Component.keybind("key.jump"));
+    assertSame(component, RENDERER.render(component, Locale.US));
+  }
+
+  @Test
+  void testRenderChanged() {
+    final Component component = Component.text("a", NamedTextColor.RED).append(Component.translatable("greeting"));
+    assertEquals(Component.text("a", NamedTextColor.RED).append(Component.text("Hello")), RENDERER.render(component, Locale.US));
+  }
+
+  @Test
+  void testRenderUsesOverriddenMergeStyle() {
+    final TranslatableComponentRenderer<Locale> renderer = new TranslatableComponentRenderer<Locale>() {
+      @Override
+      protected <B extends ComponentBuilder<?, ?>> void mergeStyle(final Component component, final B builder, final Locale context) {
+        super.mergeStyle(component, builder, context);
+        builder.colorIfAbsent(NamedTextColor.GOLD);
+      }
+    };
+
+    final Component component = Component.text("a").append(Component.text("b", NamedTextColor.RED));
+    assertEquals(
+      Component.text("a", NamedTextColor.GOLD).append(Component.text("b", NamedTextColor.RED)),
+      renderer.render(component, Locale.US)
+    );
+  }
+
+  @Test
+  void testRenderNbtSeparator() {
+    final Component unchanged = Component.blockNBT("a", false, Component.text(", "), BlockNBTComponent.Pos.fromString("1 2 3"));
+    assertSame(unchanged, RENDERER.render(unchanged, Locale.US));
+
+    final Component changed = Component.storageNBT().nbtPath("a").storage(Key.key("adventure", "test")).separator(Component.translatable("greeting")).build();
+    assertEquals(
+      Component.storageNBT().nbtPath("a").storage(Key.key("adventure", "test")).separator(Component.text("Hello")).build(),
+      RENDERER.render(changed, Locale.US)
+    );
+  }
+
+  @Test
+  void testRenderUsesOverriddenNbt() {
+    final TranslatableComponentRenderer<Locale> renderer = new TranslatableComponentRenderer<Locale>() {
+      @Override
+      protected <O extends NBTComponent<O, B>, B extends NBTComponentBuilder<O, B>> B nbt(final @NotNull Locale context, final B builder, final O oldComponent) {
+        return super.nbt(context, builder, oldComponent).interpret(true);
+      }
+    };
+
+    final Component component = Component.blockNBT("a", BlockNBTComponent.Pos.fromString("1 2 3"));
+    assertEquals(Component.blockNBT("a", BlockNBTComponent.Pos.fromString("1 2 3")).interpret(true), renderer.render(component, Locale.US));
+  }
+}
@@ -23,12 +23,23 @@
  */
 package net.kyori.adventure.translation;
 
+import com.google.common.collect.ImmutableList;
 import java.text.MessageFormat;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.identity.Identity;
 import net.kyori.adventure.key.Key;
+import net.kyori.adventure.pointer.Pointers;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TranslatableComponent;
 import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.renderer.ComponentRenderer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.BeforeEach;
@@ -38,7 +49,9 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -75,6 +88,63 @@ class GlobalTranslatorTest {
     );
   }
 
+  @Test
+  void testRenderKeepsUntranslatedSubtrees() {
+    GlobalTranslator.translator().addSource(DummyTranslator.INSTANCE);
+    final Component untranslated = Component.text()
+      .content("a")
+      .color(NamedTextColor.RED)
+      .append(Component.text("b"), Component.keybind("key.jump"))
+      .hoverEvent(Component.text("hover"))
+      .build();
+    assertSame(untranslated, GlobalTranslator.render(untranslated, Locale.US));
+
+    final Component unknown = Component.translatable("unknown", untranslated);
+    assertSame(unknown, GlobalTranslator.render(unknown, Locale.US));
+
+    final Component mixed = Component.text().append(untranslated, Component.translatable("testDummy", Component.text("you"))).build();
+    final Component rendered = GlobalTranslator.render(mixed, Locale.US);
+    assertNotSame(mixed, rendered);
+    assertSame(untranslated, rendered.children().get(0));
+  }
+
+  @Test
+  void testRenderAll() throws Exception {
+    final AtomicInteger renders = new AtomicInteger();
+    final ComponentRenderer<Locale> renderer = (component, locale) -> {
+      renders.incrementAndGet();
+      return Component.text(locale.toString());
+    };
+    final List<Locale> locales = ImmutableList.of(Locale.US, Locale.GERMANY, Locale.US, Locale.US, Locale.GERMANY);
+    final Map<Locale, Component> rendered = renderer.renderAll(Component.empty(), locales);
+    assertThat(rendered.keySet()).containsExactly(Locale.US, Locale.GERMANY).inOrder();
+    assertEquals(Component.text("de_DE"), rendered.get(Locale.GERMANY));
+    assertEquals(2, renders.get());
+
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      assertEquals(rendered, renderer.renderAll(Component.empty(), locales, executor).get(1, TimeUnit.MINUTES));
+      assertEquals(4, renders.get());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testRenderAllAudiences() {
+    GlobalTranslator.translator().addSource(DummyTranslator.INSTANCE);
+    final Audience us = new LocaleAudience(Locale.US);
+    final Audience germany = new LocaleAudience(Locale.GERMANY);
+    final Audience unknown = new Audience() {
+    };
+    final Map<Audience, Component> rendered = GlobalTranslator.renderAll(Component.translatable("testDummy", Component.text("you")), ImmutableList.of(us, germany, unknown));
+    assertThat(rendered.keySet()).containsExactly(us, germany, unknown).inOrder();
+    final Component hello = Component.text().append(Component.text("Hello "), Component.text("you"), Component.text("!")).build();
+    assertEquals(hello, rendered.get(us));
+    assertEquals(Component.translatable("testDummy", Component.text("you")), rendered.get(germany));
+    assertEquals(hello, rendered.get(unknown)); // the default translation locale
+  }
+
   @Test
   void testAddingSelf() {
     assertThrows(IllegalArgumentException.class, () -> GlobalTranslator.translator().addSource(GlobalTranslator.translator()));
@@ -88,6 +158,46 @@ class GlobalTranslatorTest {
     assertThat(GlobalTranslator.translator().sources()).doesNotContain(DummyTranslator.INSTANCE);
   }
 
+  @Test
+  void testSourcePriority() {
+    final GlobalTranslator translator = GlobalTranslator.translator();
+    final TranslationRegistry low = TranslationRegistry.create(Key.key("adventure", "test_low"));
+    final TranslationRegistry high = TranslationRegistry.create(Key.key("adventure", "test_high"));
+    low.register("priority", Locale.US, new MessageFormat("low"));
+    try {
+      assertTrue(translator.addSource(low));
+      assertTrue(translator.addSource(high, 10));
+      assertThat(translator.sources()).containsExactly(high, low).inOrder();
+      assertEquals(new MessageFormat("low"), translator.translate("priority", Locale.US));
+
+      // registering a key in a source must be seen by lookups that have already skipped that source
+      high.register("priority", Locale.US, new MessageFormat("high"));
+      assertEquals(new MessageFormat("high"), translator.translate("priority", Locale.US));
+
+      assertTrue(translator.removeSource(high));
+      assertEquals(new MessageFormat("low"), translator.translate("priority", Locale.US));
+    } finally {
+      translator.removeSource(low);
+      translator.removeSource(high);
+    }
+  }
+
+  @Test
+  void testTranslateCopiesFormat() {
+    final GlobalTranslator translator = GlobalTranslator.translator();
+    final TranslationRegistry registry = TranslationRegistry.create(Key.key("adventure", "test_copies"));
+    registry.register("copied", Locale.US, new MessageFormat("original"));
+    try {
+      assertTrue(translator.addSource(registry));
+      final MessageFormat format = translator.translate("copied", Locale.US);
+      assertNotSame(format, translator.translate("copied", Locale.US));
+      format.applyPattern("changed");
+      assertEquals(new MessageFormat("original"), translator.translate("copied", Locale.US));
+    } finally {
+      translator.removeSource(registry);
+    }
+  }
+
   @Test
   void testTranslate() {
     assertNull(GlobalTranslator.translator().translate("testDummy", Locale.US));
@@ -103,6 +213,19 @@ class GlobalTranslatorTest {
     );
   }
 
+  static final class LocaleAudience implements Audience {
+    private final Pointers pointers;
+
+    LocaleAudience(final Locale locale) {
+      this.pointers = Pointers.builder().withStatic(Identity.LOCALE, locale).build();
+    }
+
+    @Override
+    public @NotNull Pointers pointers() {
+      return this.pointers;
+    }
+  }
+
   static class DummyTranslator implements Translator {
     static final DummyTranslator INSTANCE = new DummyTranslator();
 
@@ -26,10 +26,18 @@ package net.kyori.adventure.translation;
 import com.google.common.collect.ImmutableList;
 import com.google.common.testing.EqualsTester;
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Locale;
+import java.util.List;
 import java.util.ResourceBundle;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TranslationArgument;
 import net.kyori.adventure.text.event.HoverEvent;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.renderer.TranslatableComponentRenderer;
@@ -39,8 +47,12 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class TranslationRegistryTest {
   static final TranslationRegistry REGISTRY = TranslationRegistry.create(Key.key("adventure", "test"));
@@ -169,6 +181,19 @@ class TranslationRegistryTest {
     );
   }
 
+  @Test
+  void testRender_numericArguments() {
+    assertEquals(
+      Component.text()
+        .append(Component.text("1,234.5"))
+        .append(Component.text(" and '"))
+        .append(Component.text("true"))
+        .append(Component.text("' are cats."))
+        .build(),
+      RENDERER.render(Component.translatable("cats", TranslationArgument.numeric(1234.5), TranslationArgument.bool(true)), Locale.US)
+    );
+  }
+
   @Test
   void testUnknownTranslatableWithKnownArgsAndChildren() {
     assertEquals(
@@ -198,6 +223,146 @@ class TranslationRegistryTest {
     );
   }
 
+  @Test
+  void testRegisterAllBundles() {
+    final TranslationRegistry registry = TranslationRegistry.create(Key.key("adventure", "test_bundles"));
+    registry.registerAll("adventure-test", TranslationRegistryTest.class.getClassLoader(), ImmutableList.of(Locale.US, Locale.GERMAN), true);
+    assertEquals(new MessageFormat("{0} and ''{1}'' are cats.", Locale.US), registry.translate("cats", Locale.US));
+    assertEquals(new MessageFormat("Das ist ein Test.", Locale.GERMAN), registry.translate("test", Locale.GERMANY));
+    assertEquals(new MessageFormat("☃", Locale.US), registry.translate("snowperson", Locale.GERMAN)); // default locale
+    assertThrows(IllegalArgumentException.class, () -> registry.registerAll("adventure-test", TranslationRegistryTest.class.getClassLoader(), ImmutableList.of(Locale.US), true));
+  }
+
+  @Test
+  void testRegisterPatternLazily() {
+    final TranslationRegistry registry = TranslationRegistry.create(Key.key("adventure", "test_patterns"));
+    assertThrows(IllegalArgumentException.class, () -> registry.registerPattern("broken", Locale.US, "{0"));
+    assertThrows(IllegalArgumentException.class, () -> registry.registerPattern("broken", Locale.US, "{0,unknown}"));
+    assertFalse(registry.contains("broken"));
+    registry.registerPattern("working", Locale.US, "It {0}.");
+    assertEquals(new MessageFormat("It {0}.", Locale.US), registry.translate("working", Locale.US));
+    assertThrows(IllegalArgumentException.class, () -> registry.registerPattern("working", Locale.US, "Again."));
+
+    // an invalid style is only found when the pattern is compiled, and is then only parsed once
+    registry.registerPattern("style", Locale.US, "{0,number,#.#.#}");
+    final IllegalArgumentException failure = assertThrows(IllegalArgumentException.class, () -> registry.translate("style", Locale.US));
+    final IllegalArgumentException again = assertThrows(IllegalArgumentException.class, () -> registry.translate("style", Locale.US));
+    assertNotSame(failure, again);
+    assertSame(failure.getCause(), again.getCause());
+  }
+
+  @Test
+  void testPatternsAreComparedWithoutCompiling() {
+    final TranslationRegistry first = TranslationRegistry.create(Key.key("adventure", "test_equal"));
+    final TranslationRegistry second = TranslationRegistry.create(Key.key("adventure", "test_equal"));
+    first.registerPattern("style", Locale.US, "{0,number,#.#.#}");
+    second.registerPattern("style", Locale.US, "{0,number,#.#.#}");
+    assertEquals(first, second);
+    assertEquals(first.hashCode(), second.hashCode());
+  }
+
+  @Test
+  void testLocaleTables() {
+    final TranslationRegistryImpl registry = new TranslationRegistryImpl(Key.key("adventure", "test_tables"), true);
+    registry.register("what", Locale.CANADA, new MessageFormat("A what?", Locale.CANADA));
+    registry.register("test", Locale.US, new MessageFormat("This is a test.", Locale.US));
+    registry.register("test", Locale.ENGLISH, new MessageFormat("This is an English test.", Locale.ENGLISH));
+
+    assertEquals(new MessageFormat("A what?", Locale.CANADA), registry.translate("what", Locale.CANADA));
+    assertNull(registry.translate("what", Locale.US));
+    assertEquals(new MessageFormat("This is an English test.", Locale.ENGLISH), registry.translate("test", Locale.CANADA)); // "en"
+    assertEquals(new MessageFormat("This is a test.", Locale.US), registry.translate("test", Locale.GERMANY)); // default locale
+
+    // tables are rebuilt after any change to the registry
+    registry.register("what", Locale.US, new MessageFormat("A what, in the US?", Locale.US));
+    assertEquals(new MessageFormat("A what, in the US?", Locale.US), registry.translate("what", Locale.US));
+    registry.defaultLocale(Locale.CANADA);
+    assertEquals(new MessageFormat("A what?", Locale.CANADA), registry.translate("what", Locale.GERMANY));
+    registry.unregister("what");
+    assertNull(registry.translate("what", Locale.CANADA));
+  }
+
+  @Test
+  void testLocaleTablesAreBounded() {
+    final TranslationRegistryImpl registry = new TranslationRegistryImpl(Key.key("adventure", "test_tables_bounded"), true);
+    registry.register("test", Locale.US, new MessageFormat("This is a test.", Locale.US));
+    registry.register("test", Locale.ENGLISH, new MessageFormat("This is an English test.", Locale.ENGLISH));
+    registry.register("test", Locale.GERMAN, new MessageFormat("Das ist ein Test.", Locale.GERMAN));
+
+    for (int i = 0; i < 100; i++) {
+      assertEquals(new MessageFormat("This is a test.", Locale.US), registry.translate("test", new Locale("x" + i, "YY")));
+      assertEquals(new MessageFormat("This is an English test.", Locale.ENGLISH), registry.translate("test", new Locale("en", "X" + i)));
+      assertEquals(new MessageFormat("Das ist ein Test.", Locale.GERMAN), registry.translate("test", new Locale("de", "X" + i)));
+    }
+    assertEquals(new MessageFormat("This is a test.", Locale.US), registry.translate("test", Locale.US));
+    assertEquals(4, registry.tableCount()); // en_US, en, de and the fallback table, as unregistered countries share their language's table
+    assertTrue(registry.resolvedTableCount() <= 256); // requested locales are only remembered up to a limit
+
+    // registering keeps the existing tables, updating the changed key
+    registry.register("other", Locale.GERMAN, new MessageFormat("Anderes", Locale.GERMAN));
+    assertEquals(new MessageFormat("Anderes", Locale.GERMAN), registry.translate("other", Locale.GERMANY));
+    assertNull(registry.translate("other", Locale.CANADA));
+    assertEquals(4, registry.tableCount()); // the existing tables were updated rather than discarded
+    registry.unregister("other");
+    assertNull(registry.translate("other", Locale.GERMANY));
+  }
+
+  @Test
+  void testLocaleTablesFollowNewLocales() {
+    final TranslationRegistryImpl registry = new TranslationRegistryImpl(Key.key("adventure", "test_tables_locales"), true);
+    registry.register("test", Locale.US, new MessageFormat("This is a test.", Locale.US));
+    assertEquals(new MessageFormat("This is a test.", Locale.US), registry.translate("test", Locale.GERMANY));
+
+    // de_DE was resolved to the fallback table, but now has a table of its own language
+    registry.register("test", Locale.GERMAN, new MessageFormat("Das ist ein Test.", Locale.GERMAN));
+    assertEquals(new MessageFormat("Das ist ein Test.", Locale.GERMAN), registry.translate("test", Locale.GERMANY));
+  }
+
+  @Test
+  void testTranslateCopiesFormat() {
+    final MessageFormat format = REGISTRY.translate("cats", Locale.US);
+    assertNotSame(format, REGISTRY.translate("cats", Locale.US));
+    format.applyPattern("{0} and {1} are dogs.");
+    assertEquals(new MessageFormat("{0} and ''{1}'' are cats.", Locale.US), REGISTRY.translate("cats", Locale.US));
+  }
+
+  @Test
+  void testConcurrentRender() throws Exception {
+    final int threads = 8;
+    final int iterations = 2000;
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      final CountDownLatch start = new CountDownLatch(1);
+      final List<Future<?>> results = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        final String name = "cat " + t;
+        results.add(executor.submit(() -> {
+          start.await();
+          for (int i = 0; i < iterations; i++) {
+            final String other = "cat " + i;
+            assertEquals(
+              Component.text()
+                .append(Component.text(name))
+                .append(Component.text(" and '"))
+                .append(Component.text(other))
+                .append(Component.text("' are cats."))
+                .build(),
+              RENDERER.render(Component.translatable("cats", Component.text(name), Component.text(other)), Locale.US)
+            );
+            assertEquals(Component.text("This is a test."), RENDERER.render(Component.translatable("test"), Locale.CANADA));
+          }
+          return null;
+        }));
+      }
+      start.countDown();
+      for (final Future<?> result : results) {
+        result.get(1, TimeUnit.MINUTES);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   @Test
   void testEquality() {
     new EqualsTester()
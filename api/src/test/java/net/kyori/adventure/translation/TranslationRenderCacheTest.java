@@ -0,0 +1,130 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.translation;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TranslationRenderCacheTest {
+  private final TranslationRegistry registry = TranslationRegistry.create(Key.key("adventure", "test_cache"));
+
+  @BeforeEach
+  void addRegistry() {
+    this.registry.register("cache.greeting", Locale.US, new MessageFormat("Hello!"));
+    GlobalTranslator.translator().addSource(this.registry);
+  }
+
+  @AfterEach
+  void removeRegistry() {
+    GlobalTranslator.translator().removeSource(this.registry);
+  }
+
+  @Test
+  void testHitsAndMisses() {
+    final TranslationRenderCache cache = TranslationRenderCache.create(16);
+    final Component component = Component.translatable("cache.greeting");
+    final Component rendered = cache.render(component, Locale.US);
+    assertEquals(Component.text("Hello!"), rendered);
+    assertSame(rendered, cache.render(Component.translatable("cache.greeting"), Locale.US));
+    cache.render(component, Locale.CANADA);
+    assertEquals(1, cache.hits());
+    assertEquals(2, cache.misses());
+    assertEquals(2, cache.size());
+
+    cache.clear();
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  void testWithoutTranslatables() {
+    final TranslationRenderCache cache = TranslationRenderCache.create(16);
+    final Component component = Component.text("a").append(Component.keybind("key.jump"));
+    assertSame(component, cache.render(component, Locale.US));
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.hits() + cache.misses());
+  }
+
+  @Test
+  void testEviction() {
+    final TranslationRenderCache cache = TranslationRenderCache.create(2);
+    final Component first = Component.translatable("cache.greeting");
+    cache.render(first, Locale.US);
+    cache.render(Component.translatable("cache.a"), Locale.US);
+    cache.render(first, Locale.US); // first is now the most recently used
+    cache.render(Component.translatable("cache.b"), Locale.US);
+    assertEquals(2, cache.size());
+    cache.render(first, Locale.US);
+    assertEquals(2, cache.hits());
+    cache.render(Component.translatable("cache.a"), Locale.US);
+    assertEquals(4, cache.misses());
+  }
+
+  @Test
+  void testInvalidatedByChanges() {
+    final TranslationRenderCache cache = TranslationRenderCache.create(16);
+    final Component component = Component.translatable("cache.farewell");
+    assertEquals(component, cache.render(component, Locale.US));
+
+    this.registry.register("cache.farewell", Locale.US, new MessageFormat("Goodbye!"));
+    assertEquals(Component.text("Goodbye!"), cache.render(component, Locale.US));
+
+    GlobalTranslator.translator().removeSource(this.registry);
+    assertEquals(component, cache.render(component, Locale.US));
+    assertEquals(0, cache.hits());
+  }
+
+  @Test
+  void testConcurrentRenders() throws InterruptedException {
+    final TranslationRenderCache cache = TranslationRenderCache.create(64);
+    final Thread[] threads = new Thread[4];
+    for (int i = 0; i < threads.length; i++) {
+      threads[i] = new Thread(() -> {
+        for (int j = 0; j < 1000; j++) {
+          cache.render(Component.translatable("cache." + j % 100), Locale.US);
+        }
+      });
+      threads[i].start();
+    }
+    for (final Thread thread : threads) {
+      thread.join();
+    }
+    assertTrue(cache.size() <= 64);
+    assertEquals(4000, cache.hits() + cache.misses());
+  }
+
+  @Test
+  void testInvalidSize() {
+    assertThrows(IllegalArgumentException.class, () -> TranslationRenderCache.create(0));
+  }
+}
@@ -31,6 +31,7 @@ import net.kyori.adventure.text.BlockNBTComponent;
 import net.kyori.adventure.text.BuildableComponent;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.ComponentBuilder;
+import net.kyori.adventure.text.ComponentVisitor;
 import net.kyori.adventure.text.EntityNBTComponent;
 import net.kyori.adventure.text.KeybindComponent;
 import net.kyori.adventure.text.NBTComponent;
@@ -201,46 +202,10 @@ final class ComponentTypeSerializer implements TypeSerializer<Component> {
         throw new SerializationException(ex);
       }
     }
-    if (src instanceof TextComponent) {
-      value.node(TEXT).set(((TextComponent) src).content());
-    } else if (src instanceof TranslatableComponent) {
-      final TranslatableComponent tc = (TranslatableComponent) src;
-      value.node(TRANSLATE).set(tc.key());
-      if (!tc.arguments().isEmpty()) {
-        final ConfigurationNode with = value.node(TRANSLATE_WITH);
-        for (final TranslationArgument arg : tc.arguments()) {
-          with.appendListNode().set(TranslationArgument.class, arg);
-        }
-      }
-      value.node(TRANSLATE_FALLBACK).set(tc.fallback());
-    } else if (src instanceof ScoreComponent) {
-      final ScoreComponent sc = (ScoreComponent) src;
-      final ConfigurationNode score = value.node(SCORE);
-      score.node(SCORE_NAME).set(sc.name());
-      score.node(SCORE_OBJECTIVE).set(sc.objective());
-      // score component value is optional
-      @SuppressWarnings("deprecation")
-      final @Nullable String scoreValue = sc.value();
-      if (scoreValue != null) score.node(SCORE_VALUE).set(scoreValue);
-    } else if (src instanceof SelectorComponent) {
-      value.node(SELECTOR).set(((SelectorComponent) src).pattern());
-    } else if (src instanceof KeybindComponent) {
-      value.node(KEYBIND).set(((KeybindComponent) src).keybind());
-    } else if (src instanceof NBTComponent) {
-      final NBTComponent<?, ?> nc = (NBTComponent<?, ?>) src;
-      value.node(NBT).set(nc.nbtPath());
-      value.node(NBT_INTERPRET).set(nc.interpret());
-      if (src instanceof BlockNBTComponent) {
-        value.node(NBT_BLOCK).set(BlockNBTPosSerializer.INSTANCE.type(), ((BlockNBTComponent) nc).pos());
-      } else if (src instanceof EntityNBTComponent) {
-        value.node(NBT_ENTITY).set(((EntityNBTComponent) nc).selector());
-      } else if (src instanceof StorageNBTComponent) {
-        value.node(NBT_STORAGE).set(KeySerializer.INSTANCE.type(), ((StorageNBTComponent) nc).storage());
-      } else {
-        throw notSureHowToSerialize(src);
-      }
-    } else {
-      throw notSureHowToSerialize(src);
+    try {
+      src.accept(ContentSerializer.INSTANCE, value);
+    } catch (final ContentSerializer.Failure failure) {
+      throw failure.exception;
     }
 
     final List<Component> children = src.children();
@@ -260,11 +225,124 @@ final class ComponentTypeSerializer implements TypeSerializer<Component> {
       .interpret(interpret);
   }
 
-  private static SerializationException notSureHowToDeserialize(final ConfigurationNode element) {
-    return new SerializationException("Don't know how to turn " + element + " into a Component");
+  // Serializes the type-specific content of a component
+  private static final class ContentSerializer implements ComponentVisitor<Void, ConfigurationNode> {
+    static final ContentSerializer INSTANCE = new ContentSerializer();
+
+    @Override
+    public Void visitText(final @NotNull TextComponent component, final ConfigurationNode value) {
+      try {
+        value.node(TEXT).set(component.content());
+      } catch (final SerializationException e) {
+        throw new Failure(e);
+      }
+      return null;
+    }
+
+    @Override
+    public Void visitTranslatable(final @NotNull TranslatableComponent component, final ConfigurationNode value) {
+      try {
+        value.node(TRANSLATE).set(component.key());
+        if (!component.arguments().isEmpty()) {
+          final ConfigurationNode with = value.node(TRANSLATE_WITH);
+          for (final TranslationArgument arg : component.arguments()) {
+            with.appendListNode().set(TranslationArgument.class, arg);
+          }
+        }
+        value.node(TRANSLATE_FALLBACK).set(component.fallback());
+      } catch (final SerializationException e) {
+        throw new Failure(e);
+      }
+      return null;
+    }
+
+    @Override
+    public Void visitKeybind(final @NotNull KeybindComponent component, final ConfigurationNode value) {
+      try {
+        value.node(KEYBIND).set(component.keybind());
+      } catch (final SerializationException e) {
+        throw new Failure(e);
+      }
+      return null;
+    }
+
+    @Override
+    public Void visitScore(final @NotNull ScoreComponent component, final ConfigurationNode value) {
+      try {
+        final ConfigurationNode score = value.node(SCORE);
+        score.node(SCORE_NAME).set(component.name());
+        score.node(SCORE_OBJECTIVE).set(component.objective());
+        // score component value is optional
+        @SuppressWarnings("deprecation")
+        final @Nullable String scoreValue = component.value();
+        if (scoreValue != null) score.node(SCORE_VALUE).set(scoreValue);
+      } catch (final SerializationException e) {
+        throw new Failure(e);
+      }
+      return null;
+    }
+
+    @Override
+    public Void visitSelector(final @NotNull SelectorComponent component, final ConfigurationNode value) {
+      try {
+        value.node(SELECTOR).set(component.pattern());
+      } catch (final SerializationException e) {
+        throw new Failure(e);
+      }
+      return null;
+    }
+
+    @Override
+    public Void visitBlockNBT(final @NotNull BlockNBTComponent component, final ConfigurationNode value) {
+      try {
+        nbt(component, value);
+        value.node(NBT_BLOCK).set(BlockNBTPosSerializer.INSTANCE.type(), component.pos());
+      } catch (final SerializationException e) {
+        throw new Failure(e);
+      }
+      return null;
+    }
+
+    @Override
+    public Void visitEntityNBT(final @NotNull EntityNBTComponent component, final ConfigurationNode value) {
+      try {
+        nbt(component, value);
+        value.node(NBT_ENTITY).set(component.selector());
+      } catch (final SerializationException e) {
+        throw new Failure(e);
+      }
+      return null;
+    }
+
+    @Override
+    public Void visitStorageNBT(final @NotNull StorageNBTComponent component, final ConfigurationNode value) {
+      try {
+        nbt(component, value);
+        value.node(NBT_STORAGE).set(KeySerializer.INSTANCE.type(), component.storage());
+      } catch (final SerializationException e) {
+        throw new Failure(e);
+      }
+      return null;
+    }
+
+    private static void nbt(final NBTComponent<?, ?> component, final ConfigurationNode value) throws SerializationException {
+      value.node(NBT).set(component.nbtPath());
+      value.node(NBT_INTERPRET).set(component.interpret());
+    }
+
+    // carries a checked exception out of the visitor
+    static final class Failure extends RuntimeException {
+      private static final long serialVersionUID = -2817438207133553514L;
+      final SerializationException exception;
+
+      Failure(final SerializationException exception) {
+        super(exception);
+        this.exception = exception;
+      }
+    }
   }
 
-  private static SerializationException notSureHowToSerialize(final Component component) {
-    return new SerializationException("Don't know how to serialize " + component + " as a Component");
+  private static SerializationException notSureHowToDeserialize(final ConfigurationNode element) {
+    return new SerializationException("Don't know how to turn " + element + " into a Component");
   }
 }
@@ -68,4 +68,15 @@ class PlainTextComponentSerializerTest {
       .build();
     assertEquals("Hello there, you!", PlainTextComponentSerializer.plainText().serialize(c2));
   }
+
+  @Test
+  void testSerializeAppendsToBuilder() {
+    final StringBuilder sb = new StringBuilder("> ");
+    PlainTextComponentSerializer.plainText().serialize(sb, Component.text()
+      .append(Component.translatable("some.key"))
+      .append(Component.text(" and ", NamedTextColor.RED))
+      .append(Component.keybind("key.jump"))
+      .build());
+    assertEquals("> some.key and key.jump", sb.toString());
+  }
 }